@@ -0,0 +1,24 @@
+package org.autoutils.driver;
+
+import java.time.Duration;
+
+/**
+ * Snapshot of the state of the {@link SessionAdmissionController}.
+ *
+ * @param waitingCount   The number of session requests currently queued.
+ * @param creatingCount  The number of sessions currently being created.
+ * @param admittedCount  The number of session requests admitted so far.
+ * @param timedOutCount  The number of session requests that timed out in the queue.
+ * @param totalQueueWait The summed time admitted requests spent in the queue.
+ * @param maxQueueWait   The longest time an admitted request spent in the queue.
+ */
+public record AdmissionMetrics(int waitingCount, int creatingCount, long admittedCount, long timedOutCount,
+                               Duration totalQueueWait, Duration maxQueueWait) {
+
+    /**
+     * @return The average time admitted requests spent in the queue.
+     */
+    public Duration averageQueueWait() {
+        return admittedCount == 0 ? Duration.ZERO : totalQueueWait.dividedBy(admittedCount);
+    }
+}
@@ -2,15 +2,19 @@ package org.autoutils.driver;
 
 import io.appium.java_client.android.AndroidDriver;
 import io.appium.java_client.android.options.UiAutomator2Options;
+import io.appium.java_client.remote.AutomationName;
+import org.openqa.selenium.remote.SessionId;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.net.URL;
+import java.util.Optional;
 
 class AndroidDriverFactory implements Driver<AndroidDriver> {
     private static final Logger LOGGER = LoggerFactory.getLogger(AndroidDriverFactory.class);
 
-    private AndroidDriver androidDriver;
+    private final ThreadScopedDriver<AndroidDriver> androidDriver = new ThreadScopedDriver<>();
+    private volatile SessionStateFile sessionStateFile;
     private static final AndroidDriverFactory INSTANCE = new AndroidDriverFactory();
 
     private AndroidDriverFactory() {
@@ -22,47 +26,117 @@ class AndroidDriverFactory implements Driver<AndroidDriver> {
     }
 
     /**
-     * Android-specific method to initialize the driver with UiAutomator2Options.
+     * Android-specific method to initialize the current thread's driver with UiAutomator2Options.
      *
      * @param options The UiAutomator2Options for Android.
      * @param appiumServerUrl The Appium server URL.
      * @return The initialized AndroidDriver instance.
      */
     public AndroidDriver getDriver(UiAutomator2Options options, URL appiumServerUrl) {
-        // Prevent re-initializing the driver if already initialized
-        if (androidDriver == null) {
-            androidDriver = new AndroidDriver(appiumServerUrl, options);
+        // Prevent re-initializing the driver if already initialized for the current thread
+        AndroidDriver driver = androidDriver.get();
+        if (driver == null) {
+            SessionStateFile stateFile = sessionStateFile;
+            SessionAdmissionController.Admission admission = SessionAdmissionController.admit("android", appiumServerUrl);
+            try {
+                driver = stateFile == null ? createDriver(options, appiumServerUrl) : reattachOrCreateDriver(options, appiumServerUrl, stateFile);
+                DriverSessionManager.registerDriver(driver, "android");  // Only on creation, never for the already bound driver
+            } finally {
+                admission.close();
+            }
+            androidDriver.set(driver);
         }
-        return androidDriver;
+        return driver;
+    }
+
+    /**
+     * Create a new AndroidDriver session without binding it to the current thread.
+     * Used for sessions created off the calling thread, e.g. asynchronously. The caller is responsible for
+     * {@link SessionAdmissionController admission} and registration.
+     *
+     * @param options The UiAutomator2Options for Android.
+     * @param appiumServerUrl The Appium server URL.
+     * @return The newly created AndroidDriver instance.
+     */
+    AndroidDriver createDriver(UiAutomator2Options options, URL appiumServerUrl) {
+        return new AndroidDriver(appiumServerUrl, HttpClientProvider.getClientFactory(), options);
+    }
+
+    /**
+     * Enable or disable reattaching to the sessions persisted in the given state files.
+     *
+     * @param sessionStateFile The state files to persist sessions to, or null to disable reattaching.
+     */
+    void setSessionStateFile(SessionStateFile sessionStateFile) {
+        this.sessionStateFile = sessionStateFile;
+    }
+
+    /**
+     * Reattach to the persisted session if it was created with the same server and options and is still alive,
+     * otherwise create a new session and persist it for the next run.
+     */
+    private AndroidDriver reattachOrCreateDriver(UiAutomator2Options options, URL appiumServerUrl, SessionStateFile stateFile) {
+        Optional<AndroidDriver> reattached = stateFile.readSessionId(appiumServerUrl, options)
+                .map(sessionId -> (AndroidDriver) new ReattachedAndroidDriver(appiumServerUrl, sessionId,
+                        options.getAutomationName().orElse(AutomationName.ANDROID_UIAUTOMATOR2)))
+                .filter(SessionStateFile::isAlive);
+        if (reattached.isPresent()) {
+            LOGGER.debug("Reattached to existing AndroidDriver session {}.", reattached.get().getSessionId());
+            return reattached.get();
+        }
+        AndroidDriver driver = createDriver(options, appiumServerUrl);
+        stateFile.write(driver.getSessionId().toString(), appiumServerUrl, options);
+        return driver;
     }
 
     @Override
     public void setDriver(AndroidDriver driver) {
-        this.androidDriver = driver;
+        androidDriver.set(driver);
+        if (driver != null) {
+            DriverSessionManager.assignOwner(driver, Thread.currentThread());
+        }
     }
 
     @Override
     public void closeDriver() {
-        if (androidDriver != null) {
-            androidDriver.close();
-            androidDriver = null;
+        AndroidDriver driver = androidDriver.remove();
+        if (driver != null) {
+            driver.close();
+            DriverSessionManager.deregisterIfEnded(driver);
             LOGGER.debug("AndroidDriver session closed.");
         }
     }
 
     @Override
     public void quitDriver() {
-        if (androidDriver != null) {
-            androidDriver.quit();
-            androidDriver = null;
+        AndroidDriver driver = androidDriver.remove();
+        if (driver != null) {
+            SessionId sessionId = driver.getSessionId();  // Cleared by quit()
+            DriverSessionManager.deregisterDriver(driver);
+            driver.quit();
+            SessionStateFile stateFile = sessionStateFile;
+            if (stateFile != null && sessionId != null) {
+                stateFile.delete(sessionId.toString());
+            }
             LOGGER.debug("AndroidDriver session quit.");
         }
     }
 
     @Override
     public void ensureDriverInitialized() {
-        if (androidDriver == null) {
+        if (androidDriver.get() == null) {
             throw new IllegalStateException("AndroidDriver not initialized.");
         }
     }
+
+    /**
+     * AndroidDriver reattached to a persisted session. The session address constructor talks through a client of its own,
+     * so the executor is replaced by one on the shared client, as used by fresh sessions.
+     */
+    private static final class ReattachedAndroidDriver extends AndroidDriver {
+        private ReattachedAndroidDriver(URL appiumServerUrl, String sessionId, String automationName) {
+            super(SessionStateFile.sessionAddress(appiumServerUrl, sessionId), automationName);
+            setCommandExecutor(SessionStateFile.commandExecutor(appiumServerUrl));  // The replaced client is never used
+        }
+    }
 }
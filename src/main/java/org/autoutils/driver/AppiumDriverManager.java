@@ -4,10 +4,16 @@ import io.appium.java_client.AppiumDriver;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * AppiumDriverManager holds the AppiumDriver of the current thread. Each thread (platform or virtual) gets its own
+ * session, so parallel test workers can share the singleton without overwriting each other's drivers.
+ */
 public class AppiumDriverManager implements Driver<AppiumDriver> {
     private static final Logger LOGGER = LoggerFactory.getLogger(AppiumDriverManager.class);
 
-    private AppiumDriver appiumDriver;
+    private final ThreadScopedDriver<AppiumDriver> appiumDriver = new ThreadScopedDriver<>();
     private static final AppiumDriverManager INSTANCE = new AppiumDriverManager();
 
     private AppiumDriverManager() {
@@ -23,36 +29,61 @@ public class AppiumDriverManager implements Driver<AppiumDriver> {
      * This method should be overridden by platform-specific managers like AndroidDriverManager or IOSDriverManager.
      */
     public AppiumDriver getDriver() {
-        ensureDriverInitialized();
-        return appiumDriver;
+        AppiumDriver driver = appiumDriver.get();
+        if (driver == null) {
+            throw new IllegalStateException("AppiumDriver not initialized.");
+        }
+        DriverSessionManager.touch(driver);
+        return driver;
     }
 
     @Override
     public void setDriver(AppiumDriver driver) {
-        this.appiumDriver = driver;
+        appiumDriver.set(driver);
+        if (driver != null) {
+            DriverSessionManager.assignOwner(driver, Thread.currentThread());
+        }
     }
 
     @Override
     public void closeDriver() {
-        if (appiumDriver != null) {
-            appiumDriver.close();
-            appiumDriver = null;
+        AppiumDriver driver = appiumDriver.remove();
+        if (driver != null) {
+            driver.close();
+            DriverSessionManager.deregisterIfEnded(driver);
             LOGGER.debug("AppiumDriver session closed.");
         }
     }
 
     @Override
     public void quitDriver() {
-        if (appiumDriver != null) {
-            appiumDriver.quit();
-            appiumDriver = null;
+        AppiumDriver driver = appiumDriver.remove();
+        if (driver != null) {
+            DriverSessionManager.deregisterDriver(driver);
+            driver.quit();
             LOGGER.debug("AppiumDriver session quit.");
         }
     }
 
+    /**
+     * Detaches the current thread's AppiumDriver session immediately and quits it in the background, so the thread can
+     * acquire a new driver without waiting for the teardown. Pending quits are flushed when the JVM shuts down.
+     *
+     * @return A future completed once the session has been quit.
+     * @see DriverSessionManager#setAsyncQuitConcurrency(int)
+     */
+    public CompletableFuture<Void> quitDriverAsync() {
+        AppiumDriver driver = appiumDriver.remove();
+        if (driver == null) {
+            return CompletableFuture.completedFuture(null);
+        }
+        LOGGER.debug("AppiumDriver session detached, quitting in the background.");
+        return DriverSessionManager.quitAsync(driver);
+    }
+
     @Override
     public void ensureDriverInitialized() {
-        if (appiumDriver == null) {
+        if (appiumDriver.get() == null) {
             throw new IllegalStateException("AppiumDriver not initialized.");
         }
     }
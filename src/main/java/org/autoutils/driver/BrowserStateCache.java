@@ -0,0 +1,194 @@
+package org.autoutils.driver;
+
+import org.openqa.selenium.Cookie;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+/**
+ * BrowserStateCache keeps the browser state of authenticated sessions (cookies, localStorage and sessionStorage),
+ * keyed by user or role, so new sessions can be restored into a logged-in state instead of walking through the
+ * login flow.
+ *
+ * <p>A cached state expires after its time to live (default 30 minutes, configurable through the
+ * {@code autoutils.auth.state.ttl} property or {@link #setTimeToLive(Duration)}). When the application rejects a
+ * restored state, the entry is invalidated and the real login flow runs instead. Sessions asking for the same key
+ * while its state is being captured wait for it rather than logging in as well.</p>
+ *
+ * <p>Example of usage:</p>
+ * <pre>{@code
+ * WebDriverManager.getInstance().authenticate("admin", "https://app.example.com/",
+ *         driver -> new LoginPage(driver).loginAs("admin"),
+ *         driver -> !driver.findElements(By.id("logout")).isEmpty());
+ * }</pre>
+ */
+public class BrowserStateCache {
+    private static final Logger LOGGER = LoggerFactory.getLogger(BrowserStateCache.class);
+
+    private static final BrowserStateCache INSTANCE = new BrowserStateCache();
+
+    private static final String READ_STORAGE_SCRIPT =
+            "return [Object.assign({}, window.localStorage), Object.assign({}, window.sessionStorage)];";
+    private static final String WRITE_STORAGE_SCRIPT =
+            "for (var k in arguments[0]) { window.localStorage.setItem(k, arguments[0][k]); }"
+                    + "for (var k in arguments[1]) { window.sessionStorage.setItem(k, arguments[1][k]); }";
+    private static final String CLEAR_STORAGE_SCRIPT = "window.localStorage.clear(); window.sessionStorage.clear();";
+
+    private final Map<String, BrowserState> states = new ConcurrentHashMap<>();
+    private final Map<String, ReentrantLock> captureLocks = new ConcurrentHashMap<>();
+    private volatile Duration timeToLive = ConfigManager.getDuration("autoutils.auth.state.ttl", Duration.ofMinutes(30));
+
+    private BrowserStateCache() {
+        // Private constructor to prevent instantiation
+    }
+
+    public static BrowserStateCache getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Bring the session into the authenticated state for the given key: restore the cached state if there is a valid
+     * one and the application accepts it, otherwise run the login flow and cache the resulting state.
+     *
+     * @param driver          The session to authenticate.
+     * @param key             The user or role the state belongs to.
+     * @param appUrl          A page of the application on the origin the state belongs to.
+     * @param loginFlow       The real login flow, run when no cached state is accepted.
+     * @param isAuthenticated Checks whether the session is logged in, after a restore and after the login flow.
+     * @return true if the state was restored from the cache, false if the login flow ran.
+     * @throws IllegalStateException if the session is still not authenticated after the login flow.
+     */
+    public boolean restoreOrLogin(WebDriver driver, String key, String appUrl, Consumer<WebDriver> loginFlow,
+                                  Predicate<WebDriver> isAuthenticated) {
+        BrowserState tried = validState(key);
+        if (tried != null && restore(driver, key, appUrl, tried, isAuthenticated)) {
+            return true;
+        }
+        ReentrantLock lock = captureLocks.computeIfAbsent(key, k -> new ReentrantLock());
+        lock.lock();
+        try {
+            BrowserState state = validState(key);
+            if (state != null && state != tried && restore(driver, key, appUrl, state, isAuthenticated)) {
+                return true;  // Captured by another session while this one waited
+            }
+            loginFlow.accept(driver);
+            if (!authenticated(driver, isAuthenticated)) {
+                throw new IllegalStateException("Session is not authenticated as " + key + " after the login flow.");
+            }
+            states.put(key, capture(driver));
+            LOGGER.debug("Captured browser state for {}.", key);
+            return false;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Set how long captured states stay valid. Applies to states captured from now on.
+     *
+     * @param timeToLive The time to live of a captured state.
+     */
+    public void setTimeToLive(Duration timeToLive) {
+        this.timeToLive = timeToLive;
+    }
+
+    /**
+     * Forget the cached state of a user or role, e.g. after changing its password.
+     *
+     * @param key The user or role.
+     */
+    public void invalidate(String key) {
+        states.remove(key);
+    }
+
+    /**
+     * Forget every cached state.
+     */
+    public void invalidateAll() {
+        states.clear();
+    }
+
+    private BrowserState validState(String key) {
+        BrowserState state = states.get(key);
+        if (state != null && Instant.now().isAfter(state.expiresAt())) {
+            states.remove(key, state);
+            return null;
+        }
+        return state;
+    }
+
+    private boolean restore(WebDriver driver, String key, String appUrl, BrowserState state, Predicate<WebDriver> isAuthenticated) {
+        try {
+            driver.get(appUrl);  // Cookies and storage can only be set on the origin they belong to
+            Date now = new Date();
+            for (Cookie cookie : state.cookies()) {
+                if (cookie.getExpiry() == null || cookie.getExpiry().after(now)) {
+                    driver.manage().addCookie(cookie);
+                }
+            }
+            ((JavascriptExecutor) driver).executeScript(WRITE_STORAGE_SCRIPT, state.localStorage(), state.sessionStorage());
+            driver.navigate().refresh();
+            if (authenticated(driver, isAuthenticated)) {
+                LOGGER.debug("Restored cached browser state for {}.", key);
+                return true;
+            }
+        } catch (WebDriverException e) {
+            LOGGER.debug("Cached browser state for {} could not be restored: {}", key, e.getMessage());
+        }
+        LOGGER.info("Cached browser state for {} was rejected, falling back to the login flow.", key);
+        states.remove(key, state);
+        clear(driver);
+        return false;
+    }
+
+    @SuppressWarnings("unchecked")
+    private BrowserState capture(WebDriver driver) {
+        Set<Cookie> cookies = Set.copyOf(driver.manage().getCookies());
+        Object storage = ((JavascriptExecutor) driver).executeScript(READ_STORAGE_SCRIPT);
+        Map<String, String> localStorage = new HashMap<>();
+        Map<String, String> sessionStorage = new HashMap<>();
+        if (storage instanceof List<?> areas && areas.size() == 2) {
+            ((Map<String, Object>) areas.get(0)).forEach((name, value) -> localStorage.put(name, String.valueOf(value)));
+            ((Map<String, Object>) areas.get(1)).forEach((name, value) -> sessionStorage.put(name, String.valueOf(value)));
+        }
+        return new BrowserState(cookies, Map.copyOf(localStorage), Map.copyOf(sessionStorage), Instant.now().plus(timeToLive));
+    }
+
+    private static void clear(WebDriver driver) {
+        try {
+            driver.manage().deleteAllCookies();
+            ((JavascriptExecutor) driver).executeScript(CLEAR_STORAGE_SCRIPT);
+        } catch (WebDriverException e) {
+            LOGGER.debug("Browser state could not be cleared: {}", e.getMessage());
+        }
+    }
+
+    private static boolean authenticated(WebDriver driver, Predicate<WebDriver> isAuthenticated) {
+        try {
+            return isAuthenticated.test(driver);
+        } catch (WebDriverException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Captured state of an authenticated session.
+     */
+    private record BrowserState(Set<Cookie> cookies, Map<String, String> localStorage, Map<String, String> sessionStorage,
+                                Instant expiresAt) {
+    }
+}
@@ -1,26 +1,100 @@
 package org.autoutils.driver;
 
+import org.autoutils.driver.exception.InvalidConfigurationException;
+import org.autoutils.driver.exception.InvalidUrlException;
 import org.autoutils.driver.exception.MissingConfigurationException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 import java.io.FileInputStream;
 import java.io.IOException;
+import java.net.MalformedURLException;
+import java.net.URI;
+import java.net.URL;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.time.Duration;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
 import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
 
+/**
+ * ConfigManager provides the configuration of the library as an immutable snapshot that is read without locking
+ * and replaced atomically whenever the configuration changes.
+ *
+ * <p>Values are resolved from layered sources, each overriding the previous one:</p>
+ * <ol>
+ *     <li>defaults registered through {@link #setDefault(String, String)},</li>
+ *     <li>properties files loaded through {@link #loadProperties(String)}, later files overriding earlier ones,</li>
+ *     <li>environment variables: only those prefixed with {@code AUTOUTILS_}, where e.g.
+ *     {@code AUTOUTILS_AUTH_STATE_TTL} provides {@code autoutils.auth.state.ttl}, and {@code APPIUM_SERVER_URL}, which
+ *     provides {@code appium.server.url},</li>
+ *     <li>system properties.</li>
+ * </ol>
+ *
+ * <p>Environment variables and system properties are captured when the snapshot is built, i.e. on first use and on
+ * every change of the other sources; call {@link #reload()} after setting a system property at runtime.</p>
+ *
+ * <p>Typed accessors parse each value once per snapshot and cache the result, so hot paths do not re-parse.
+ * Loaded files can optionally be watched and reloaded on change with {@link #enableHotReload()}.</p>
+ */
 public class ConfigManager {
+    private static final Logger LOGGER = LoggerFactory.getLogger(ConfigManager.class);
 
-    private static final Properties properties = new Properties();
+    private static final String ENVIRONMENT_PREFIX = "AUTOUTILS_";
+    // Environment variables outside the prefix that provide a configuration key
+    private static final Map<String, String> ENVIRONMENT_KEYS = Map.of("APPIUM_SERVER_URL", "appium.server.url");
+
+    private static final Map<String, String> defaults = new HashMap<>();
+    private static final Set<Path> propertiesFiles = new LinkedHashSet<>();
+    private static volatile Snapshot snapshot = Snapshot.build(Map.of(), List.of());
+    private static WatchService watchService;
 
     /**
      * Load properties from the specified path.
      *
      * @param propertiesPath The file path to the properties file.
      */
-    public static void loadProperties(String propertiesPath) {
-        try (FileInputStream configFile = new FileInputStream(propertiesPath)) {
-            properties.load(configFile);
-        } catch (IOException e) {
-            throw new MissingConfigurationException("Properties file not found at the specified location: " + propertiesPath);
-        }
+    public static synchronized void loadProperties(String propertiesPath) {
+        Path path = Path.of(propertiesPath).toAbsolutePath();
+        List<Path> files = new ArrayList<>(propertiesFiles);
+        files.remove(path);
+        files.add(path);
+        snapshot = Snapshot.build(defaults, files);  // Fails without side effects if the file is missing
+        propertiesFiles.remove(path);
+        propertiesFiles.add(path);
+    }
+
+    /**
+     * Register a default value, used when no other source provides the key.
+     *
+     * @param key   The key for the property.
+     * @param value The default value.
+     */
+    public static synchronized void setDefault(String key, String value) {
+        defaults.put(key, value);
+        reload();
+    }
+
+    /**
+     * Re-read every loaded properties file, the environment and the system properties, and atomically
+     * replace the current snapshot.
+     */
+    public static synchronized void reload() {
+        snapshot = Snapshot.build(defaults, List.copyOf(propertiesFiles));
     }
 
     /**
@@ -29,7 +103,7 @@ public class ConfigManager {
      * @return The platform name (android, ios, web, etc.), or null if not found.
      */
     public static String getPlatform() {
-        return properties.getProperty("platform", "default-platform");  // Optional default value if platform is not set
+        return snapshot.values.getOrDefault("platform", "default-platform");  // Optional default value if platform is not set
     }
 
     /**
@@ -39,6 +113,243 @@ public class ConfigManager {
      * @return The value of the property, or null if not found.
      */
     public static String getProperty(String key) {
-        return properties.getProperty(key);
+        return snapshot.values.get(key);
+    }
+
+    /**
+     * Fetch a required property by key.
+     *
+     * @param key The key for the property.
+     * @return The value of the property.
+     * @throws MissingConfigurationException if the property is not set.
+     */
+    public static String getRequiredProperty(String key) {
+        String value = snapshot.values.get(key);
+        if (value == null) {
+            throw new MissingConfigurationException("Missing configuration property: " + key);
+        }
+        return value;
+    }
+
+    /**
+     * Fetch a property as an int.
+     *
+     * @param key          The key for the property.
+     * @param defaultValue The value returned if the property is not set.
+     * @return The parsed value, or the default value if the property is not set.
+     * @throws InvalidConfigurationException if the value is not a valid int.
+     */
+    public static int getInt(String key, int defaultValue) {
+        Integer value = snapshot.parsed(key, Integer.class, Integer::valueOf);
+        return value == null ? defaultValue : value;
+    }
+
+    /**
+     * Fetch a property as a long.
+     *
+     * @param key          The key for the property.
+     * @param defaultValue The value returned if the property is not set.
+     * @return The parsed value, or the default value if the property is not set.
+     * @throws InvalidConfigurationException if the value is not a valid long.
+     */
+    public static long getLong(String key, long defaultValue) {
+        Long value = snapshot.parsed(key, Long.class, Long::valueOf);
+        return value == null ? defaultValue : value;
+    }
+
+    /**
+     * Fetch a property as a boolean ("true" ignoring case is true, anything else false).
+     *
+     * @param key          The key for the property.
+     * @param defaultValue The value returned if the property is not set.
+     * @return The parsed value, or the default value if the property is not set.
+     */
+    public static boolean getBoolean(String key, boolean defaultValue) {
+        Boolean value = snapshot.parsed(key, Boolean.class, Boolean::valueOf);
+        return value == null ? defaultValue : value;
+    }
+
+    /**
+     * Fetch a property as a Duration. Accepts ISO-8601 durations ({@code PT30S}) and plain numbers with a
+     * {@code ms}, {@code s}, {@code m} or {@code h} suffix ({@code 500ms}, {@code 30s}).
+     *
+     * @param key          The key for the property.
+     * @param defaultValue The value returned if the property is not set.
+     * @return The parsed value, or the default value if the property is not set.
+     * @throws InvalidConfigurationException if the value is not a valid duration.
+     */
+    public static Duration getDuration(String key, Duration defaultValue) {
+        Duration value = snapshot.parsed(key, Duration.class, ConfigManager::parseDuration);
+        return value == null ? defaultValue : value;
+    }
+
+    /**
+     * Fetch a required property as a URL.
+     *
+     * @param key The key for the property.
+     * @return The parsed URL.
+     * @throws MissingConfigurationException if the property is not set.
+     * @throws InvalidUrlException           if the value is not a valid URL.
+     */
+    public static URL getUrl(String key) {
+        getRequiredProperty(key);
+        try {
+            return snapshot.parsed(key, URL.class, value -> {
+                try {
+                    return URI.create(value).toURL();
+                } catch (MalformedURLException e) {
+                    throw new IllegalArgumentException(e);
+                }
+            });
+        } catch (InvalidConfigurationException e) {
+            throw new InvalidUrlException("Invalid URL for configuration property: " + key, e.getCause());
+        }
+    }
+
+    /**
+     * Watch the directories of the loaded properties files and reload the configuration whenever one of the files
+     * changes. Files loaded after this call are not watched until hot reload is enabled again.
+     */
+    public static synchronized void enableHotReload() {
+        disableHotReload();
+        try {
+            WatchService service = FileSystems.getDefault().newWatchService();
+            Set<Path> directories = new LinkedHashSet<>();
+            for (Path file : propertiesFiles) {
+                directories.add(file.getParent());
+            }
+            for (Path directory : directories) {
+                directory.register(service, StandardWatchEventKinds.ENTRY_MODIFY, StandardWatchEventKinds.ENTRY_CREATE);
+            }
+            watchService = service;
+            Thread.ofPlatform().name("config-hot-reload").daemon().start(() -> watchForChanges(service));
+            LOGGER.debug("Hot reload enabled for {} properties files.", propertiesFiles.size());
+        } catch (IOException e) {
+            throw new MissingConfigurationException("Properties files could not be watched for changes: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Stop watching the loaded properties files for changes.
+     */
+    public static synchronized void disableHotReload() {
+        if (watchService != null) {
+            try {
+                watchService.close();
+            } catch (IOException e) {
+                LOGGER.debug("Config watch service could not be closed: {}", e.toString());
+            }
+            watchService = null;
+        }
+    }
+
+    private static void watchForChanges(WatchService service) {
+        try {
+            while (true) {
+                WatchKey key = service.take();
+                Path directory = (Path) key.watchable();
+                boolean changed = false;
+                for (WatchEvent<?> event : key.pollEvents()) {
+                    if (event.context() instanceof Path fileName) {
+                        changed |= isLoadedFile(directory.resolve(fileName));
+                    }
+                }
+                key.reset();
+                if (changed) {
+                    reloadSafely();
+                }
+            }
+        } catch (ClosedWatchServiceException e) {
+            // Hot reload disabled
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static synchronized boolean isLoadedFile(Path path) {
+        return propertiesFiles.contains(path);
+    }
+
+    private static void reloadSafely() {
+        try {
+            reload();
+            LOGGER.info("Configuration reloaded.");
+        } catch (MissingConfigurationException e) {
+            // A file being rewritten may briefly be missing; keep the previous snapshot
+            LOGGER.warn("Configuration reload failed, keeping previous values: {}", e.getMessage());
+        }
+    }
+
+    private static Duration parseDuration(String value) {
+        String trimmed = value.trim().toLowerCase(Locale.ROOT);
+        try {
+            if (trimmed.startsWith("p")) {
+                return Duration.parse(trimmed.toUpperCase(Locale.ROOT));
+            }
+            if (trimmed.endsWith("ms")) {
+                return Duration.ofMillis(Long.parseLong(trimmed.substring(0, trimmed.length() - 2).trim()));
+            }
+            long amount = Long.parseLong(trimmed.substring(0, trimmed.length() - 1).trim());
+            return switch (trimmed.charAt(trimmed.length() - 1)) {
+                case 's' -> Duration.ofSeconds(amount);
+                case 'm' -> Duration.ofMinutes(amount);
+                case 'h' -> Duration.ofHours(amount);
+                default -> throw new IllegalArgumentException("Unknown duration unit in: " + value);
+            };
+        } catch (DateTimeParseException | StringIndexOutOfBoundsException e) {
+            throw new IllegalArgumentException("Invalid duration: " + value, e);
+        }
+    }
+
+    /**
+     * Immutable view of the merged configuration sources, with a cache of parsed typed values.
+     */
+    private static final class Snapshot {
+        private static final Object MISSING = new Object();
+
+        private final Map<String, String> values;
+        private final Map<String, Object> parsedValues = new ConcurrentHashMap<>();  // Keyed by type and property key
+
+        private Snapshot(Map<String, String> values) {
+            this.values = values;
+        }
+
+        private static Snapshot build(Map<String, String> defaults, List<Path> files) {
+            Map<String, String> merged = new HashMap<>(defaults);
+            for (Path file : files) {
+                Properties properties = new Properties();
+                try (FileInputStream configFile = new FileInputStream(file.toFile())) {
+                    properties.load(configFile);
+                } catch (IOException e) {
+                    throw new MissingConfigurationException("Properties file not found at the specified location: " + file);
+                }
+                properties.stringPropertyNames().forEach(key -> merged.put(key, properties.getProperty(key)));
+            }
+            System.getenv().forEach((name, value) -> {
+                if (name.startsWith(ENVIRONMENT_PREFIX)) {
+                    merged.put(name.toLowerCase(Locale.ROOT).replace('_', '.'), value);
+                } else if (ENVIRONMENT_KEYS.containsKey(name)) {
+                    merged.put(ENVIRONMENT_KEYS.get(name), value);
+                }
+            });
+            Properties systemProperties = System.getProperties();
+            systemProperties.stringPropertyNames().forEach(key -> merged.put(key, systemProperties.getProperty(key)));
+            return new Snapshot(Map.copyOf(merged));
+        }
+
+        private <V> V parsed(String key, Class<V> type, Function<String, V> parser) {
+            String cacheKey = type.getName() + ':' + key;
+            Object value = parsedValues.get(cacheKey);
+            if (value == null) {
+                String raw = values.get(key);
+                try {
+                    value = raw == null ? MISSING : parser.apply(raw);
+                } catch (IllegalArgumentException e) {
+                    throw new InvalidConfigurationException("Invalid value for configuration property " + key + ": " + raw, e);
+                }
+                parsedValues.putIfAbsent(cacheKey, value);
+            }
+            return value == MISSING ? null : type.cast(value);
+        }
     }
 }
@@ -0,0 +1,26 @@
+package org.autoutils.driver;
+
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * Snapshot of the utilization of the devices scheduled by {@link DeviceScheduler}.
+ *
+ * @param deviceCount         The number of devices in the inventory.
+ * @param busyDeviceCount     The number of devices currently leased.
+ * @param waitingRequestCount The number of requests queued for a free device.
+ * @param leaseCountByDevice  The number of leases granted so far, per device UDID.
+ * @param busyTimeByDevice    The total time spent leased so far, per device UDID.
+ */
+public record DeviceFarmMetrics(int deviceCount, int busyDeviceCount, int waitingRequestCount,
+                                Map<String, Long> leaseCountByDevice, Map<String, Duration> busyTimeByDevice) {
+
+    /**
+     * Get the share of devices currently leased.
+     *
+     * @return The utilization between 0.0 and 1.0.
+     */
+    public double utilization() {
+        return deviceCount == 0 ? 0.0 : (double) busyDeviceCount / deviceCount;
+    }
+}
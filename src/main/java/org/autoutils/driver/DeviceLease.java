@@ -0,0 +1,52 @@
+package org.autoutils.driver;
+
+import io.appium.java_client.AppiumDriver;
+
+/**
+ * DeviceLease is an exclusive lease on a device granted by {@link DeviceScheduler}, together with the session
+ * created on it. Closing the lease quits the session and returns the device to the scheduler.
+ */
+public final class DeviceLease implements AutoCloseable {
+
+    private final DeviceScheduler scheduler;
+    private final MobileDevice device;
+    private final AppiumDriver driver;
+    private boolean closed;
+
+    DeviceLease(DeviceScheduler scheduler, MobileDevice device, AppiumDriver driver) {
+        this.scheduler = scheduler;
+        this.device = device;
+        this.driver = driver;
+    }
+
+    /**
+     * @return The leased device.
+     */
+    public MobileDevice getDevice() {
+        return device;
+    }
+
+    /**
+     * @return The session created on the leased device.
+     */
+    public AppiumDriver getDriver() {
+        return driver;
+    }
+
+    /**
+     * Quit the session and return the device to the scheduler. Closing an already closed lease has no effect.
+     */
+    @Override
+    public synchronized void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        try {
+            DriverSessionManager.deregisterDriver(driver);
+            driver.quit();
+        } finally {
+            scheduler.release(device);
+        }
+    }
+}
@@ -0,0 +1,200 @@
+package org.autoutils.driver;
+
+import io.appium.java_client.AppiumDriver;
+import io.appium.java_client.android.options.UiAutomator2Options;
+import io.appium.java_client.ios.options.XCUITestOptions;
+import org.autoutils.driver.exception.NoDeviceAvailableException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.net.URL;
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.BiFunction;
+
+/**
+ * DeviceScheduler assigns mobile sessions to the devices of an inventory spread over one or more Appium servers.
+ *
+ * <p>Each session gets an exclusive lease on a free device of the requested platform. Among the free devices, the one
+ * whose Appium server currently runs the fewest sessions is chosen, ties going to the device leased the least so far.
+ * When every matching device is busy, requests queue on a fair lock until a lease is released or their timeout
+ * expires.</p>
+ *
+ * <p>Example of usage:</p>
+ * <pre>{@code
+ * DeviceScheduler scheduler = new DeviceScheduler(List.of(
+ *         new MobileDevice("emulator-5554", "android", serverA),
+ *         new MobileDevice("emulator-5556", "android", serverB)));
+ *
+ * try (DeviceLease lease = scheduler.acquireAndroid(new UiAutomator2Options(), Duration.ofMinutes(5))) {
+ *     AppiumDriver driver = lease.getDriver();
+ *     // ... run the test ...
+ * }
+ * }</pre>
+ */
+public class DeviceScheduler {
+    private static final Logger LOGGER = LoggerFactory.getLogger(DeviceScheduler.class);
+
+    private final List<DeviceSlot> slots;
+    private final ReentrantLock lock = new ReentrantLock(true);
+    private final Condition deviceReleased = lock.newCondition();
+    private int waitingRequestCount;
+
+    /**
+     * Create a scheduler for the given device inventory.
+     *
+     * @param inventory The devices available for scheduling.
+     */
+    public DeviceScheduler(List<MobileDevice> inventory) {
+        this.slots = inventory.stream().map(DeviceSlot::new).toList();
+    }
+
+    /**
+     * Lease a free Android device and create a session on it. The options are copied and the device UDID is set
+     * on the copy, so the same options can be shared by every request.
+     *
+     * @param options The UiAutomator2Options for the session.
+     * @param timeout The maximum time to wait for a free device.
+     * @return The lease holding the device and its session; close it to quit the session and free the device.
+     * @throws NoDeviceAvailableException if no device becomes free within the timeout.
+     */
+    public DeviceLease acquireAndroid(UiAutomator2Options options, Duration timeout) {
+        return acquire("android", timeout, (device, serverUrl) -> AndroidDriverFactory.getInstance()
+                .createDriver(new UiAutomator2Options(options.asMap()).setUdid(device), serverUrl));
+    }
+
+    /**
+     * Lease a free iOS device and create a session on it. The options are copied and the device UDID is set
+     * on the copy, so the same options can be shared by every request.
+     *
+     * @param options The XCUITestOptions for the session.
+     * @param timeout The maximum time to wait for a free device.
+     * @return The lease holding the device and its session; close it to quit the session and free the device.
+     * @throws NoDeviceAvailableException if no device becomes free within the timeout.
+     */
+    public DeviceLease acquireIOS(XCUITestOptions options, Duration timeout) {
+        return acquire("ios", timeout, (device, serverUrl) -> IOSDriverFactory.getInstance()
+                .createDriver(new XCUITestOptions(options.asMap()).setUdid(device), serverUrl));
+    }
+
+    /**
+     * Get a snapshot of the device utilization.
+     *
+     * @return The current metrics.
+     */
+    public DeviceFarmMetrics getMetrics() {
+        lock.lock();
+        try {
+            long now = System.nanoTime();
+            Map<String, Long> leaseCounts = new HashMap<>();
+            Map<String, Duration> busyTimes = new HashMap<>();
+            int busy = 0;
+            for (DeviceSlot slot : slots) {
+                long busyNanos = slot.busyNanos + (slot.busy ? now - slot.leasedAtNanos : 0);
+                leaseCounts.put(slot.device.udid(), slot.leaseCount);
+                busyTimes.put(slot.device.udid(), Duration.ofNanos(busyNanos));
+                busy += slot.busy ? 1 : 0;
+            }
+            return new DeviceFarmMetrics(slots.size(), busy, waitingRequestCount, Map.copyOf(leaseCounts), Map.copyOf(busyTimes));
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private DeviceLease acquire(String platform, Duration timeout, BiFunction<String, URL, AppiumDriver> sessionCreator) {
+        DeviceSlot slot = reserve(platform, timeout);
+        try {
+            AppiumDriver driver = sessionCreator.apply(slot.device.udid(), slot.device.serverUrl());
+            DriverSessionManager.registerDriver(driver, platform);
+            LOGGER.debug("Leased {} device {} on {}.", platform, slot.device.udid(), slot.device.serverUrl());
+            return new DeviceLease(this, slot.device, driver);
+        } catch (RuntimeException e) {
+            release(slot.device);
+            throw e;
+        }
+    }
+
+    private DeviceSlot reserve(String platform, Duration timeout) {
+        long remainingNanos = timeout.toNanos();
+        lock.lock();
+        try {
+            waitingRequestCount++;
+            try {
+                DeviceSlot slot;
+                while ((slot = leastLoadedFreeSlot(platform)) == null) {
+                    if (remainingNanos <= 0) {
+                        throw new NoDeviceAvailableException("No free " + platform + " device within " + timeout.toMillis() + " ms.");
+                    }
+                    remainingNanos = deviceReleased.awaitNanos(remainingNanos);
+                }
+                slot.busy = true;
+                slot.leaseCount++;
+                slot.leasedAtNanos = System.nanoTime();
+                return slot;
+            } finally {
+                waitingRequestCount--;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Waiting for a free device was interrupted", e);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Free a device leased by {@link DeviceLease}.
+     *
+     * @param device The device to free.
+     */
+    void release(MobileDevice device) {
+        lock.lock();
+        try {
+            for (DeviceSlot slot : slots) {
+                if (slot.device == device && slot.busy) {
+                    slot.busy = false;
+                    slot.busyNanos += System.nanoTime() - slot.leasedAtNanos;
+                    deviceReleased.signalAll();
+                    return;
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private DeviceSlot leastLoadedFreeSlot(String platform) {
+        // Keyed by the URL string, as URL.equals resolves host names
+        Map<String, Long> sessionsPerServer = new HashMap<>();
+        for (DeviceSlot slot : slots) {
+            if (slot.busy) {
+                sessionsPerServer.merge(slot.device.serverUrl().toString(), 1L, Long::sum);
+            }
+        }
+        return slots.stream()
+                .filter(slot -> !slot.busy && slot.device.platform().equalsIgnoreCase(platform))
+                .min(Comparator.<DeviceSlot>comparingLong(slot -> sessionsPerServer.getOrDefault(slot.device.serverUrl().toString(), 0L))
+                        .thenComparingLong(slot -> slot.leaseCount))
+                .orElse(null);
+    }
+
+    /**
+     * Mutable scheduling state of one device, guarded by the scheduler lock.
+     */
+    private static final class DeviceSlot {
+        private final MobileDevice device;
+        private boolean busy;
+        private long leaseCount;
+        private long leasedAtNanos;
+        private long busyNanos;
+
+        private DeviceSlot(MobileDevice device) {
+            this.device = device;
+        }
+    }
+}
@@ -1,9 +1,15 @@
 package org.autoutils.driver;
 
+/**
+ * Common lifecycle contract for driver holders. Implementations scope the driver to the calling thread,
+ * so every method operates on the session owned by the current thread only.
+ *
+ * @param <T> The type of the driver being managed.
+ */
 interface Driver<T> {
 
     /**
-     * Sets the driver instance.
+     * Sets the driver instance for the current thread.
      *
      * @param driver The driver instance to be set.
      */
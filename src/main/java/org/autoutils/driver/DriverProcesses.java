@@ -0,0 +1,175 @@
+package org.autoutils.driver;
+
+import org.openqa.selenium.WebDriver;
+
+import java.io.IOException;
+import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.stream.Stream;
+
+/**
+ * Helper for locating and terminating the local driver service process (chromedriver, geckodriver, msedgedriver, ...)
+ * that backs a WebDriver session, together with the browser processes it spawned.
+ */
+final class DriverProcesses {
+
+    private static final Set<String> LOCAL_HOSTS = Set.of("localhost", "127.0.0.1", "::1", "[::1]");
+    private static final boolean PROC_AVAILABLE = Files.isDirectory(Path.of("/proc/self"));
+
+    // URL of the driver service started for each driver by WebDriverFactory; weak, so quit drivers are not retained
+    private static final Map<WebDriver, URL> serviceUrls = Collections.synchronizedMap(new WeakHashMap<>());
+    // Browser process of each session on a shared driver service, which has no service process of its own
+    private static final Map<WebDriver, ProcessHandle> browserProcesses = Collections.synchronizedMap(new WeakHashMap<>());
+
+    private DriverProcesses() {
+        // Prevent instantiation
+    }
+
+    /**
+     * Remember the driver service a driver was created on, so its process can be found later.
+     *
+     * @param driver     The driver.
+     * @param serviceUrl The URL of the driver service started for it.
+     */
+    static void recordServiceUrl(WebDriver driver, URL serviceUrl) {
+        serviceUrls.put(driver, serviceUrl);
+    }
+
+    /**
+     * Remember the browser process of a session on a shared driver service, so it can be sampled, recorded and
+     * killed on its own.
+     *
+     * @param driver  The driver.
+     * @param browser The root browser process of the session.
+     */
+    static void recordBrowserProcess(WebDriver driver, ProcessHandle browser) {
+        browserProcesses.put(driver, browser);
+    }
+
+    /**
+     * Find the local process tree serving the given driver. For a driver on its own service, this is the service
+     * process, identified as a descendant of this JVM listening on the port of the service the driver was created on.
+     * For a session on a {@link SharedDriverServices shared driver service}, this is its browser process.
+     *
+     * <p>Appium servers and shared driver services themselves are never matched: they serve every session, so
+     * killing them would take down unrelated sessions as well.</p>
+     *
+     * @param driver The driver whose process tree should be found.
+     * @return The root process, or an empty Optional if the driver is remote or the process cannot be found.
+     */
+    static Optional<ProcessHandle> findServiceProcess(WebDriver driver) {
+        ProcessHandle browser = browserProcesses.get(driver);
+        if (browser != null) {
+            return Optional.of(browser).filter(ProcessHandle::isAlive);
+        }
+        URL serverAddress = serviceUrls.get(driver);
+        if (serverAddress == null || !LOCAL_HOSTS.contains(serverAddress.getHost())
+                || SharedDriverServices.isSharedServicePort(serverAddress.getPort())) {
+            return Optional.empty();
+        }
+        return findDescendantListeningOn(serverAddress.getPort());
+    }
+
+    /**
+     * Find the descendant of this JVM started with a {@code --port} argument for the given port.
+     *
+     * @param port The port the process listens on.
+     * @return The process, or an empty Optional if there is none.
+     */
+    static Optional<ProcessHandle> findDescendantListeningOn(int port) {
+        String portArgument = String.valueOf(port);
+        return ProcessHandle.current().descendants()
+                .filter(process -> listensOnPort(process, portArgument))
+                .findFirst();
+    }
+
+    /**
+     * Find the root browser process started by a driver service with the given user data directory.
+     *
+     * @param service     The driver service process.
+     * @param userDataDir The user data directory of the browser, as reported in the session capabilities.
+     * @return The browser process, or an empty Optional if there is none.
+     */
+    static Optional<ProcessHandle> findBrowserProcess(ProcessHandle service, String userDataDir) {
+        String argument = "--user-data-dir=" + userDataDir;
+        return service.descendants()
+                .filter(process -> hasArgument(process, argument))
+                .filter(process -> process.parent().map(parent -> !hasArgument(parent, argument)).orElse(true))
+                .findFirst();
+    }
+
+    /**
+     * Sample the CPU time and resident memory of a process tree. Resident memory is read from
+     * {@code /proc/<pid>/status}, so it is only available on Linux. Processes that exit while the tree is sampled
+     * are left out of the sample.
+     *
+     * @param root The root of the process tree.
+     * @return The resource usage of the live processes of the tree.
+     */
+    static ProcessResourceUsage sampleUsage(ProcessHandle root) {
+        List<ProcessHandle> processes = Stream.concat(Stream.of(root), root.descendants()).toList();
+        Duration cpuTime = Duration.ZERO;
+        long rssBytes = PROC_AVAILABLE ? 0 : -1;
+        int processCount = 0;
+        for (ProcessHandle process : processes) {
+            Optional<Duration> processCpuTime = process.info().totalCpuDuration();
+            if (PROC_AVAILABLE) {
+                long processRss = residentBytes(process.pid());
+                if (processRss < 0) {
+                    continue;  // Exited since the tree was listed
+                }
+                rssBytes += processRss;
+            } else if (!process.isAlive()) {
+                continue;
+            }
+            cpuTime = cpuTime.plus(processCpuTime.orElse(Duration.ZERO));
+            processCount++;
+        }
+        return new ProcessResourceUsage(cpuTime, rssBytes, processCount, Instant.now());
+    }
+
+    private static long residentBytes(long pid) {
+        try (Stream<String> lines = Files.lines(Path.of("/proc", String.valueOf(pid), "status"))) {
+            return lines.filter(line -> line.startsWith("VmRSS:"))
+                    .findFirst()
+                    .map(line -> Long.parseLong(line.substring("VmRSS:".length()).replace("kB", "").trim()) * 1024)
+                    .orElse(0L);  // Kernel threads and zombies have no VmRSS
+        } catch (IOException | NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    /**
+     * Forcibly terminate a process and all of its descendants, children first.
+     *
+     * @param process The root of the process tree to terminate.
+     */
+    static void destroyTree(ProcessHandle process) {
+        process.descendants().forEach(ProcessHandle::destroyForcibly);
+        process.destroyForcibly();
+    }
+
+    private static boolean hasArgument(ProcessHandle process, String argument) {
+        return Stream.of(process.info().arguments().orElse(new String[0])).anyMatch(argument::equals);
+    }
+
+    private static boolean listensOnPort(ProcessHandle process, String port) {
+        String[] arguments = process.info().arguments().orElse(new String[0]);
+        for (int i = 0; i < arguments.length; i++) {
+            if (arguments[i].equals("--port=" + port)
+                    || (arguments[i].equals("--port") && i + 1 < arguments.length && arguments[i + 1].equals(port))) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
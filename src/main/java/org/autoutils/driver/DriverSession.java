@@ -0,0 +1,151 @@
+package org.autoutils.driver;
+
+import org.openqa.selenium.WebDriver;
+
+import java.time.Instant;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * DriverSession describes a driver registered with {@link DriverSessionManager}: its session id, the platform it
+ * runs on, when and where it was created, which thread owns it, and when it was last used.
+ */
+public final class DriverSession {
+
+    private static final Set<String> INTERNAL_PACKAGE_PREFIXES = Set.of("org.autoutils.driver.", "java.", "jdk.", "sun.");
+    private static final StackWalker STACK_WALKER = StackWalker.getInstance();
+
+    private final String sessionId;
+    private final WebDriver driver;
+    private final String platform;
+    private final Instant createdAt;
+    private final String callSite;
+    private volatile Thread ownerThread;
+    private volatile long lastCommandMillis;
+    private volatile RequestBlockingStats requestBlockingStats;
+    private final AtomicInteger useCount = new AtomicInteger();
+    private volatile ProcessResourceUsage lastResourceUsage;
+
+    DriverSession(String sessionId, WebDriver driver, String platform, Thread ownerThread, String callSite) {
+        this.sessionId = sessionId;
+        this.driver = driver;
+        this.platform = platform;
+        this.createdAt = Instant.now();
+        this.ownerThread = ownerThread;
+        this.callSite = callSite;
+        this.lastCommandMillis = createdAt.toEpochMilli();
+    }
+
+    /**
+     * Find the first stack frame of the current thread outside this library and the JDK,
+     * i.e. the code that asked for the session.
+     *
+     * @return The call site as "class.method(file:line)", or "unknown" if none is found.
+     */
+    static String currentCallSite() {
+        return STACK_WALKER.walk(frames -> frames
+                .filter(frame -> INTERNAL_PACKAGE_PREFIXES.stream().noneMatch(frame.getClassName()::startsWith))
+                .findFirst()
+                .map(frame -> frame.getClassName() + "." + frame.getMethodName() + "(" + frame.getFileName() + ":" + frame.getLineNumber() + ")")
+                .orElse("unknown"));
+    }
+
+    /**
+     * @return The session id the driver is registered under.
+     */
+    public String getSessionId() {
+        return sessionId;
+    }
+
+    /**
+     * @return The registered driver instance.
+     */
+    public WebDriver getDriver() {
+        return driver;
+    }
+
+    /**
+     * @return The platform of the session (browser name such as "chrome", or "android"/"ios").
+     */
+    public String getPlatform() {
+        return platform;
+    }
+
+    /**
+     * @return The time the session was registered.
+     */
+    public Instant getCreatedAt() {
+        return createdAt;
+    }
+
+    /**
+     * @return The code location that created the session.
+     */
+    public String getCallSite() {
+        return callSite;
+    }
+
+    /**
+     * @return The thread that owns the session, or null if the session is held by a pool rather than a thread.
+     */
+    public Thread getOwnerThread() {
+        return ownerThread;
+    }
+
+    void setOwnerThread(Thread ownerThread) {
+        this.ownerThread = ownerThread;
+    }
+
+    /**
+     * @return The last time a command was sent to the session, or it was obtained through a manager.
+     */
+    public Instant getLastCommandAt() {
+        return Instant.ofEpochMilli(lastCommandMillis);
+    }
+
+    /**
+     * Record that the session has just been used.
+     */
+    void touch() {
+        lastCommandMillis = System.currentTimeMillis();
+    }
+
+    /**
+     * @return The request blocking statistics of the session, or null if no {@link RequestBlocklist} is installed.
+     */
+    public RequestBlockingStats getRequestBlockingStats() {
+        return requestBlockingStats;
+    }
+
+    void setRequestBlockingStats(RequestBlockingStats requestBlockingStats) {
+        this.requestBlockingStats = requestBlockingStats;
+    }
+
+    /**
+     * @return The number of times the session has been handed to a thread.
+     */
+    public int getUseCount() {
+        return useCount.get();
+    }
+
+    void incrementUseCount() {
+        useCount.incrementAndGet();
+    }
+
+    /**
+     * @return The latest sampled resource usage of the session's local processes, or null if never sampled.
+     */
+    public ProcessResourceUsage getLastResourceUsage() {
+        return lastResourceUsage;
+    }
+
+    void setLastResourceUsage(ProcessResourceUsage lastResourceUsage) {
+        this.lastResourceUsage = lastResourceUsage;
+    }
+
+    @Override
+    public String toString() {
+        Thread owner = ownerThread;
+        return "DriverSession{sessionId=" + sessionId + ", platform=" + platform + ", owner=" + (owner == null ? "none" : owner.getName()) + "}";
+    }
+}
@@ -1,41 +1,390 @@
 package org.autoutils.driver;
 
+import org.openqa.selenium.Capabilities;
+import org.openqa.selenium.HasCapabilities;
 import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.remote.RemoteWebDriver;
+import org.openqa.selenium.remote.SessionId;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
-import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
 
+/**
+ * DriverSessionManager is the registry of every live driver session created through this library.
+ * Sessions are indexed by session id, so registering and deregistering are O(1), and each session carries
+ * metadata such as its platform, creation time, owner thread and last use.
+ */
 public class DriverSessionManager {
     private static final Logger LOGGER = LoggerFactory.getLogger(DriverSessionManager.class);
 
-    // Thread-safe list to hold all active driver instances
-    private static final List<WebDriver> activeDrivers = new CopyOnWriteArrayList<>();
+    private static final int DEFAULT_TEARDOWN_CONCURRENCY = 8;
+    private static final Duration DEFAULT_QUIT_TIMEOUT = Duration.ofSeconds(30);
+    private static final ExecutorService QUIT_EXECUTOR = Executors.newThreadPerTaskExecutor(
+            Thread.ofVirtual().name("driver-quit-", 0).factory());
+
+    private static final String UNKNOWN_PLATFORM = "unknown";
+    private static final String SESSION_PATH = "/session/";
+
+    // Thread-safe registry of all active sessions, keyed by session id
+    private static final Map<String, DriverSession> activeSessions = new ConcurrentHashMap<>();
+
+    // Quits started by quitAsync and not finished yet
+    private static final Set<CompletableFuture<Void>> pendingQuits = ConcurrentHashMap.newKeySet();
+    private static volatile Semaphore asyncQuitPermits = new Semaphore(DEFAULT_TEARDOWN_CONCURRENCY);
+    private static volatile int asyncQuitConcurrency = DEFAULT_TEARDOWN_CONCURRENCY;
+
+    private static volatile RecyclingPolicy recyclingPolicy = RecyclingPolicy.NONE;
+
+    static {
+        Runtime.getRuntime().addShutdownHook(Thread.ofPlatform().name("driver-quit-flush").unstarted(() -> {
+            if (!pendingQuits.isEmpty() && !awaitPendingQuits(pendingQuitsDeadline())) {
+                LOGGER.warn("{} driver sessions were still quitting at JVM shutdown.", pendingQuits.size());
+            } else if (activeSessions.isEmpty()) {
+                OrphanedProcessSweeper.forgetOwnProcesses();  // Nothing left behind, no need to sweep on the next run
+            }
+        }));
+    }
 
     /**
-     * Add a driver to the list of active drivers.
+     * Register a driver as an active session. The platform is derived from the driver's capabilities.
      *
-     * @param driver The driver instance to be added.
+     * @param driver The driver instance to be registered.
      */
     public static void registerDriver(WebDriver driver) {
+        registerDriver(driver, platformOf(driver));
+    }
+
+    /**
+     * Register a driver as an active session on the given platform.
+     *
+     * @param driver   The driver instance to be registered.
+     * @param platform The platform of the session (browser name such as "chrome", or "android"/"ios").
+     */
+    public static void registerDriver(WebDriver driver, String platform) {
+        registerDriver(driver, platform, Thread.currentThread(), DriverSession.currentCallSite());
+    }
+
+    /**
+     * Register a driver created on behalf of another thread, e.g. asynchronously or by a pool. A driver that is
+     * already registered keeps its existing session metadata (creation time, owner, call site, last use).
+     *
+     * @param driver      The driver instance to be registered.
+     * @param platform    The platform of the session.
+     * @param ownerThread The thread owning the session, or null if the session is held by a pool.
+     * @param callSite    The code location that requested the session.
+     */
+    static void registerDriver(WebDriver driver, String platform, Thread ownerThread, String callSite) {
         if (driver != null) {
-            activeDrivers.add(driver);
+            activeSessions.computeIfAbsent(sessionIdOf(driver),
+                    sessionId -> new DriverSession(sessionId, driver, platform.toLowerCase(Locale.ROOT), ownerThread, callSite));
+        }
+    }
+
+    /**
+     * Transfer ownership of a registered driver, e.g. when it is bound to a thread or returned to a pool.
+     *
+     * @param driver      The driver instance.
+     * @param ownerThread The new owner, or null if the session is held by a pool.
+     */
+    static void assignOwner(WebDriver driver, Thread ownerThread) {
+        DriverSession session = activeSessions.get(sessionIdOf(driver));
+        if (session != null) {
+            session.setOwnerThread(ownerThread);
+            session.touch();
+            if (ownerThread != null) {
+                session.incrementUseCount();
+            }
+        }
+    }
+
+    /**
+     * Remove a driver from the active sessions. Must be called before the driver is quit,
+     * as a quit driver no longer reports its session id.
+     *
+     * @param driver The driver instance to be removed.
+     * @return true if the driver was registered, false otherwise.
+     */
+    public static boolean deregisterDriver(WebDriver driver) {
+        if (driver == null || activeSessions.remove(sessionIdOf(driver)) == null) {
+            return false;
+        }
+        SessionAdmissionController.capacityReleased();
+        return true;
+    }
+
+    /**
+     * Remove a driver from the active sessions if its session has ended, e.g. after its last window was closed.
+     *
+     * @param driver The driver instance to check.
+     */
+    static void deregisterIfEnded(WebDriver driver) {
+        try {
+            if (driver.getWindowHandles().isEmpty()) {
+                deregisterDriver(driver);
+            }
+        } catch (WebDriverException e) {
+            deregisterDriver(driver);
+        }
+    }
+
+    /**
+     * Record that a registered driver has just been used.
+     *
+     * @param driver The driver instance that was used.
+     */
+    public static void touch(WebDriver driver) {
+        DriverSession session = activeSessions.get(sessionIdOf(driver));
+        if (session != null) {
+            session.touch();
+        }
+    }
+
+    /**
+     * Record a WebDriver command sent over HTTP as use of the session it addresses.
+     *
+     * @param uri The request URI of the command, e.g. {@code /session/<id>/element}.
+     */
+    static void recordCommand(String uri) {
+        int start = uri.indexOf(SESSION_PATH);
+        if (start < 0) {
+            return;  // New session and status requests address no session
         }
+        start += SESSION_PATH.length();
+        int end = uri.indexOf('/', start);
+        DriverSession session = activeSessions.get(end < 0 ? uri.substring(start) : uri.substring(start, end));
+        if (session != null) {
+            session.touch();
+        }
+    }
+
+    /**
+     * Get the session metadata of a registered driver.
+     *
+     * @param driver The driver instance.
+     * @return The session metadata, or an empty Optional if the driver is not registered.
+     */
+    public static Optional<DriverSession> getSession(WebDriver driver) {
+        return Optional.ofNullable(activeSessions.get(sessionIdOf(driver)));
     }
 
     /**
-     * Quit all active drivers.
+     * Get all active sessions.
+     *
+     * @return An unmodifiable live view of the active sessions.
      */
-    public static void quitAllDrivers() {
-        for (WebDriver driver : activeDrivers) {
-            if (driver != null) {
-                driver.quit();
-                LOGGER.debug("{} Driver session quit.", driver);
+    public static Collection<DriverSession> getSessions() {
+        return Collections.unmodifiableCollection(activeSessions.values());
+    }
+
+    /**
+     * Quit all active drivers in parallel, using the default concurrency (8) and per-driver deadline (30 seconds).
+     *
+     * @return A summary of the teardown.
+     */
+    public static TeardownSummary quitAllDrivers() {
+        return quitAllDrivers(DEFAULT_TEARDOWN_CONCURRENCY, DEFAULT_QUIT_TIMEOUT);
+    }
+
+    /**
+     * Quit all active drivers in parallel. At most {@code maxConcurrency} drivers are quit at the same time,
+     * and a driver that does not quit within {@code quitTimeout} has its local driver service process tree
+     * force-killed, so one hung session cannot block the rest of the teardown. A driver without a local process is
+     * abandoned instead and reported in {@link TeardownSummary#abandonedCount()}.
+     *
+     * @param maxConcurrency The maximum number of drivers quit at the same time.
+     * @param quitTimeout    The deadline for quitting a single driver.
+     * @return A summary of the teardown, including time spent and failures.
+     * @throws IllegalArgumentException if maxConcurrency is lower than one.
+     */
+    public static TeardownSummary quitAllDrivers(int maxConcurrency, Duration quitTimeout) {
+        if (maxConcurrency < 1) {
+            throw new IllegalArgumentException("maxConcurrency must be at least 1");
+        }
+        long startNanos = System.nanoTime();
+        List<WebDriver> drivers = activeSessions.values().stream()
+                .filter(session -> activeSessions.remove(session.getSessionId(), session))
+                .map(DriverSession::getDriver)
+                .toList();
+
+        Semaphore permits = new Semaphore(maxConcurrency);
+        AtomicInteger forcedKillCount = new AtomicInteger();
+        AtomicInteger abandonedCount = new AtomicInteger();
+        Map<String, Throwable> failures = new ConcurrentHashMap<>();
+
+        try (ExecutorService teardownExecutor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (WebDriver driver : drivers) {
+                teardownExecutor.execute(() -> {
+                    permits.acquireUninterruptibly();
+                    try {
+                        quitWithDeadline(driver, quitTimeout, forcedKillCount, abandonedCount, failures);
+                    } finally {
+                        permits.release();
+                    }
+                });
             }
         }
-        // Clear the list after quitting all drivers
-        activeDrivers.clear();
+        SessionAdmissionController.capacityReleased();
+
+        TeardownSummary summary = new TeardownSummary(drivers.size(), forcedKillCount.get(), abandonedCount.get(),
+                Duration.ofNanos(System.nanoTime() - startNanos), Map.copyOf(failures));
+        LOGGER.info("Quit {} driver sessions in {} ms ({} forced kills, {} abandoned, {} failures).", summary.driverCount(),
+                summary.elapsed().toMillis(), summary.forcedKillCount(), summary.abandonedCount(), summary.failures().size());
+        return summary;
+    }
+
+    /**
+     * Deregister a driver and quit it in the background. At most {@link #setAsyncQuitConcurrency(int)} drivers quit
+     * at the same time; a driver that does not quit within 30 seconds has its local driver service process tree
+     * force-killed. Quits still pending when the JVM shuts down are awaited by a shutdown hook, for as long as they
+     * can take at the configured concurrency: 30 seconds per batch of concurrent quits.
+     *
+     * @param driver The driver to quit.
+     * @return A future completed once the quit has finished, successfully or not.
+     */
+    static CompletableFuture<Void> quitAsync(WebDriver driver) {
+        deregisterDriver(driver);
+        Semaphore permits = asyncQuitPermits;
+        CompletableFuture<Void> quit = new CompletableFuture<>();
+        pendingQuits.add(quit);  // Added before the quit starts, so a flush cannot miss it
+        quit.whenComplete((ignored, e) -> pendingQuits.remove(quit));
+        QUIT_EXECUTOR.execute(() -> {
+            permits.acquireUninterruptibly();
+            try {
+                quitWithDeadline(driver, DEFAULT_QUIT_TIMEOUT, new AtomicInteger(), new AtomicInteger(), new ConcurrentHashMap<>());
+            } finally {
+                permits.release();
+                quit.complete(null);
+            }
+        });
+        return quit;
+    }
+
+    /**
+     * Set the maximum number of drivers quit in the background at the same time. Quits already started keep the
+     * previous limit.
+     *
+     * @param maxConcurrency The maximum number of concurrent background quits (default 8).
+     */
+    public static void setAsyncQuitConcurrency(int maxConcurrency) {
+        if (maxConcurrency < 1) {
+            throw new IllegalArgumentException("maxConcurrency must be at least 1");
+        }
+        asyncQuitPermits = new Semaphore(maxConcurrency);
+        asyncQuitConcurrency = maxConcurrency;
+    }
+
+    /**
+     * Wait for every background quit to finish.
+     *
+     * @param timeout The maximum time to wait.
+     * @return true if no background quit is pending anymore, false if the timeout expired first.
+     */
+    public static boolean awaitPendingQuits(Duration timeout) {
+        try {
+            CompletableFuture.allOf(pendingQuits.toArray(CompletableFuture[]::new)).get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+            return true;
+        } catch (TimeoutException e) {
+            return false;
+        } catch (ExecutionException e) {
+            return true;  // Background quits never complete exceptionally
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    /**
+     * Get the number of drivers still quitting in the background.
+     *
+     * @return the number of pending background quits.
+     */
+    public static int getPendingQuitCount() {
+        return pendingQuits.size();
+    }
+
+    /**
+     * Sample the CPU time and resident memory of the local processes behind a session: its driver service process
+     * and the browser processes it spawned. The sample is also kept as {@link DriverSession#getLastResourceUsage()}.
+     *
+     * @param driver The driver of the session.
+     * @return The resource usage, or an empty Optional if the session has no local process (remote or Appium drivers).
+     */
+    public static Optional<ProcessResourceUsage> sampleResourceUsage(WebDriver driver) {
+        Optional<ProcessResourceUsage> usage = DriverProcesses.findServiceProcess(LazyWebDriver.unwrapIfStarted(driver))
+                .map(DriverProcesses::sampleUsage);
+        usage.ifPresent(sample -> getSession(driver).ifPresent(session -> session.setLastResourceUsage(sample)));
+        return usage;
+    }
+
+    /**
+     * Sample the resource usage of every active session with local processes.
+     *
+     * @return The resource usage keyed by session id.
+     */
+    public static Map<String, ProcessResourceUsage> sampleResourceUsage() {
+        Map<String, ProcessResourceUsage> usages = new HashMap<>();
+        for (DriverSession session : activeSessions.values()) {
+            sampleResourceUsage(session.getDriver()).ifPresent(usage -> usages.put(session.getSessionId(), usage));
+        }
+        return usages;
+    }
+
+    /**
+     * Set the policy deciding when sessions should be recycled. Sessions handed out by {@link WebDriverPool} are
+     * checked against it at check-in and replaced by fresh ones when it is exceeded.
+     *
+     * @param policy The recycling policy, or {@link RecyclingPolicy#NONE} to never recycle.
+     */
+    public static void setRecyclingPolicy(RecyclingPolicy policy) {
+        recyclingPolicy = policy == null ? RecyclingPolicy.NONE : policy;
+    }
+
+    /**
+     * @return The current recycling policy.
+     */
+    public static RecyclingPolicy getRecyclingPolicy() {
+        return recyclingPolicy;
+    }
+
+    /**
+     * Check a session against the recycling policy, sampling its resource usage if the policy has a budget.
+     *
+     * @param driver The driver of the session.
+     * @return true if the session has exceeded the policy and should be replaced, false otherwise.
+     */
+    public static boolean shouldRecycle(WebDriver driver) {
+        RecyclingPolicy policy = recyclingPolicy;
+        Optional<DriverSession> session = getSession(driver);
+        if (policy == RecyclingPolicy.NONE || session.isEmpty()) {
+            return false;
+        }
+        ProcessResourceUsage usage = policy.needsSampling() ? sampleResourceUsage(driver).orElse(null) : null;
+        String reason = policy.recycleReason(session.get().getUseCount(), usage);
+        if (reason != null) {
+            LOGGER.debug("{} should be recycled: {}.", session.get(), reason);
+        }
+        return reason != null;
     }
 
     /**
@@ -44,6 +393,111 @@ public class DriverSessionManager {
      * @return the number of currently active drivers.
      */
     public static int getActiveDriverCount() {
-        return activeDrivers.size();
+        return activeSessions.size();
+    }
+
+    /**
+     * Get the number of active drivers on the given platform.
+     *
+     * @param platform The platform (browser name such as "chrome", or "android"/"ios").
+     * @return the number of currently active drivers on that platform.
+     */
+    public static long getActiveDriverCount(String platform) {
+        return activeSessions.values().stream()
+                .filter(session -> session.getPlatform().equalsIgnoreCase(platform))
+                .count();
+    }
+
+    /**
+     * Count the active sessions matching a filter.
+     *
+     * @param filter The sessions to count.
+     * @return the number of matching active sessions.
+     */
+    static long countActiveSessions(Predicate<DriverSession> filter) {
+        return activeSessions.values().stream().filter(filter).count();
+    }
+
+    /**
+     * Get the number of active drivers grouped by platform.
+     *
+     * @return the number of currently active drivers per platform.
+     */
+    public static Map<String, Long> getActiveDriverCountByPlatform() {
+        return activeSessions.values().stream()
+                .collect(Collectors.groupingBy(DriverSession::getPlatform, Collectors.counting()));
+    }
+
+    /**
+     * Get the key a driver is registered under: its remote session id, or an identity-based key
+     * for drivers that do not expose one.
+     */
+    private static String sessionIdOf(WebDriver driver) {
+        driver = LazyWebDriver.unwrapIfStarted(driver);
+        if (driver instanceof RemoteWebDriver remoteWebDriver) {
+            SessionId sessionId = remoteWebDriver.getSessionId();
+            if (sessionId != null) {
+                return sessionId.toString();
+            }
+        }
+        return "local-" + Integer.toHexString(System.identityHashCode(driver));
+    }
+
+    private static String platformOf(WebDriver driver) {
+        if (driver instanceof HasCapabilities hasCapabilities) {
+            Capabilities capabilities = hasCapabilities.getCapabilities();
+            String browserName = capabilities.getBrowserName();
+            if (browserName != null && !browserName.isEmpty()) {
+                return browserName;
+            }
+            if (capabilities.getPlatformName() != null) {
+                return capabilities.getPlatformName().name();
+            }
+        }
+        return UNKNOWN_PLATFORM;
+    }
+
+    /**
+     * The longest the pending background quits can take: they run in batches of the concurrency limit, each quit
+     * bounded by the quit timeout.
+     */
+    private static Duration pendingQuitsDeadline() {
+        int concurrency = asyncQuitConcurrency;
+        int batches = (pendingQuits.size() + concurrency - 1) / concurrency;
+        return DEFAULT_QUIT_TIMEOUT.multipliedBy(Math.max(1, batches));
+    }
+
+    /**
+     * Quit a driver, killing its local process tree if the quit misses the deadline. A blocked quit cannot be
+     * interrupted; killing the process makes it fail fast, otherwise it is abandoned and ends with its HTTP read
+     * timeout.
+     */
+    private static void quitWithDeadline(WebDriver driver, Duration quitTimeout, AtomicInteger forcedKillCount,
+                                         AtomicInteger abandonedCount, Map<String, Throwable> failures) {
+        String description = String.valueOf(driver);
+        CompletableFuture<Void> quit = CompletableFuture.runAsync(driver::quit, QUIT_EXECUTOR);
+        try {
+            quit.get(quitTimeout.toMillis(), TimeUnit.MILLISECONDS);
+            LOGGER.debug("{} Driver session quit.", description);
+        } catch (TimeoutException e) {
+            failures.put(description, e);
+            Optional<ProcessHandle> serviceProcess = DriverProcesses.findServiceProcess(LazyWebDriver.unwrapIfStarted(driver));
+            if (serviceProcess.isPresent()) {
+                DriverProcesses.destroyTree(serviceProcess.get());
+                forcedKillCount.incrementAndGet();
+                LOGGER.warn("{} did not quit within {} ms, killed process tree of pid {}.",
+                        description, quitTimeout.toMillis(), serviceProcess.get().pid());
+            } else {
+                abandonedCount.incrementAndGet();
+                LOGGER.warn("{} did not quit within {} ms and has no local process to kill, abandoning it; the session may "
+                        + "still be running.", description, quitTimeout.toMillis());
+            }
+        } catch (ExecutionException e) {
+            failures.put(description, e.getCause());
+            LOGGER.warn("Failed to quit {}: {}", description, e.getCause().toString());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            failures.put(description, e);
+        }
     }
 }
@@ -0,0 +1,157 @@
+package org.autoutils.driver;
+
+import org.openqa.selenium.remote.http.ClientConfig;
+import org.openqa.selenium.remote.http.Filter;
+import org.openqa.selenium.remote.http.HttpClient;
+import org.openqa.selenium.remote.http.HttpRequest;
+import org.openqa.selenium.remote.http.HttpResponse;
+import org.openqa.selenium.remote.http.WebSocket;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * HttpClientProvider holds the HTTP client configuration shared by every driver created through this library.
+ *
+ * <p>Every driver uses the shared {@link ClientConfig}, whose timeouts default to Selenium's. Drivers that talk to
+ * a long-lived server share pooled HTTP clients from {@link #getClientFactory()}: one keep-alive client per server
+ * URL instead of one client with its own connections per driver. These are the Appium drivers created by the Android
+ * and iOS factories and the local sessions created on shared driver services. A local session on its own driver
+ * service talks to a port no other session uses, so it gets its own client with the shared configuration, which
+ * Selenium's per-service driver constructors create and close with the service.</p>
+ */
+public class HttpClientProvider {
+    private static final Logger LOGGER = LoggerFactory.getLogger(HttpClientProvider.class);
+
+    private static final String CONNECTION_POOL_SIZE_PROPERTY = "jdk.httpclient.connectionPoolSize";
+    private static final String KEEP_ALIVE_PROPERTY = "jdk.httpclient.keepalive.timeout";
+
+    // Records every command sent to a registered session as activity, for the SessionReaper's idle detection
+    private static final Filter SESSION_ACTIVITY = next -> request -> {
+        DriverSessionManager.recordCommand(request.getUri());
+        return next.execute(request);
+    };
+
+    private static final SharedHttpClientFactory CLIENT_FACTORY = new SharedHttpClientFactory(HttpClient.Factory.createDefault());
+    private static volatile ClientConfig clientConfig = ClientConfig.defaultConfig().withFilter(SESSION_ACTIVITY);
+
+    private HttpClientProvider() {
+        // Prevent instantiation
+    }
+
+    /**
+     * Get the client configuration shared by all drivers.
+     *
+     * @return The shared ClientConfig.
+     */
+    public static ClientConfig getClientConfig() {
+        return clientConfig;
+    }
+
+    /**
+     * Get the HTTP client factory shared by the drivers of long-lived servers. Clients are pooled per server URL.
+     *
+     * @return The shared HttpClient.Factory.
+     */
+    public static HttpClient.Factory getClientFactory() {
+        return CLIENT_FACTORY;
+    }
+
+    /**
+     * Set the connection timeout used by drivers created from now on. Defaults to Selenium's, 10 seconds.
+     *
+     * @param timeout The maximum time to establish a connection.
+     */
+    public static void setConnectionTimeout(Duration timeout) {
+        clientConfig = clientConfig.connectionTimeout(timeout);
+    }
+
+    /**
+     * Set the read timeout used by drivers created from now on. Defaults to Selenium's, 3 minutes.
+     *
+     * @param timeout The maximum time to wait for a response to a single command.
+     */
+    public static void setReadTimeout(Duration timeout) {
+        clientConfig = clientConfig.readTimeout(timeout);
+    }
+
+    /**
+     * Set the size of the JDK HTTP connection pool and how long idle keep-alive connections are kept open.
+     * Not applied unless called: this sets the {@code jdk.httpclient.connectionPoolSize} and
+     * {@code jdk.httpclient.keepalive.timeout} system properties, which affect every JDK HTTP client in the JVM and
+     * are read once, so call it before the first HTTP client of the JVM is created.
+     *
+     * @param maxConnections The maximum number of pooled connections.
+     * @param keepAlive      How long an idle connection is kept open.
+     */
+    public static void setConnectionPool(int maxConnections, Duration keepAlive) {
+        System.setProperty(CONNECTION_POOL_SIZE_PROPERTY, String.valueOf(maxConnections));
+        System.setProperty(KEEP_ALIVE_PROPERTY, String.valueOf(keepAlive.toSeconds()));
+    }
+
+    /**
+     * Close every pooled HTTP client. Call once all drivers have been quit, e.g. at the end of the run.
+     */
+    public static void closeAll() {
+        CLIENT_FACTORY.closeAll();
+    }
+
+    /**
+     * Factory handing out one shared client per server URL, configured with the provider's timeouts.
+     */
+    private static final class SharedHttpClientFactory implements HttpClient.Factory {
+        private final HttpClient.Factory delegate;
+        private final Map<String, SharedHttpClient> clients = new ConcurrentHashMap<>();
+
+        private SharedHttpClientFactory(HttpClient.Factory delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public HttpClient createClient(ClientConfig config) {
+            ClientConfig sharedConfig = config
+                    .connectionTimeout(clientConfig.connectionTimeout())
+                    .readTimeout(clientConfig.readTimeout());
+            return clients.computeIfAbsent(String.valueOf(config.baseUri()), baseUri -> {
+                LOGGER.debug("Creating shared HTTP client for {}.", baseUri);
+                return new SharedHttpClient(delegate.createClient(sharedConfig));
+            });
+        }
+
+        private void closeAll() {
+            clients.values().forEach(client -> client.delegate.close());
+            clients.clear();
+        }
+    }
+
+    /**
+     * Client shared between sessions. Drivers close their client when they quit, so closing is ignored here
+     * and done by {@link #closeAll()} instead.
+     */
+    private static final class SharedHttpClient implements HttpClient {
+        private final HttpClient delegate;
+
+        private SharedHttpClient(HttpClient delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public HttpResponse execute(HttpRequest request) {
+            DriverSessionManager.recordCommand(request.getUri());
+            return delegate.execute(request);
+        }
+
+        @Override
+        public WebSocket openSocket(HttpRequest request, WebSocket.Listener listener) {
+            return delegate.openSocket(request, listener);
+        }
+
+        @Override
+        public void close() {
+            // Shared between sessions, see HttpClientProvider#closeAll()
+        }
+    }
+}
@@ -2,15 +2,18 @@ package org.autoutils.driver;
 
 import io.appium.java_client.ios.IOSDriver;
 import io.appium.java_client.ios.options.XCUITestOptions;
+import org.openqa.selenium.remote.SessionId;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.net.URL;
+import java.util.Optional;
 
 class IOSDriverFactory implements Driver<IOSDriver> {
     private static final Logger LOGGER = LoggerFactory.getLogger(IOSDriverFactory.class);
 
-    private IOSDriver iosDriver;
+    private final ThreadScopedDriver<IOSDriver> iosDriver = new ThreadScopedDriver<>();
+    private volatile SessionStateFile sessionStateFile;
     private static final IOSDriverFactory INSTANCE = new IOSDriverFactory();
 
     private IOSDriverFactory() {
@@ -22,47 +25,116 @@ class IOSDriverFactory implements Driver<IOSDriver> {
     }
 
     /**
-     * iOS-specific method to initialize the driver with XCUITestOptions.
+     * iOS-specific method to initialize the current thread's driver with XCUITestOptions.
      *
      * @param options The XCUITestOptions for iOS.
      * @param appiumServerUrl The Appium server URL.
      * @return The initialized IOSDriver instance.
      */
     public IOSDriver getDriver(XCUITestOptions options, URL appiumServerUrl) {
-        // Prevent re-initializing the driver if already initialized
-        if (iosDriver == null) {
-            iosDriver = new IOSDriver(appiumServerUrl, options);
+        // Prevent re-initializing the driver if already initialized for the current thread
+        IOSDriver driver = iosDriver.get();
+        if (driver == null) {
+            SessionStateFile stateFile = sessionStateFile;
+            SessionAdmissionController.Admission admission = SessionAdmissionController.admit("ios", appiumServerUrl);
+            try {
+                driver = stateFile == null ? createDriver(options, appiumServerUrl) : reattachOrCreateDriver(options, appiumServerUrl, stateFile);
+                DriverSessionManager.registerDriver(driver, "ios");  // Only on creation, never for the already bound driver
+            } finally {
+                admission.close();
+            }
+            iosDriver.set(driver);
         }
-        return iosDriver;
+        return driver;
+    }
+
+    /**
+     * Create a new IOSDriver session without binding it to the current thread.
+     * Used for sessions created off the calling thread, e.g. asynchronously. The caller is responsible for
+     * {@link SessionAdmissionController admission} and registration.
+     *
+     * @param options The XCUITestOptions for iOS.
+     * @param appiumServerUrl The Appium server URL.
+     * @return The newly created IOSDriver instance.
+     */
+    IOSDriver createDriver(XCUITestOptions options, URL appiumServerUrl) {
+        return new IOSDriver(appiumServerUrl, HttpClientProvider.getClientFactory(), options);
+    }
+
+    /**
+     * Enable or disable reattaching to the sessions persisted in the given state files.
+     *
+     * @param sessionStateFile The state files to persist sessions to, or null to disable reattaching.
+     */
+    void setSessionStateFile(SessionStateFile sessionStateFile) {
+        this.sessionStateFile = sessionStateFile;
+    }
+
+    /**
+     * Reattach to the persisted session if it was created with the same server and options and is still alive,
+     * otherwise create a new session and persist it for the next run.
+     */
+    private IOSDriver reattachOrCreateDriver(XCUITestOptions options, URL appiumServerUrl, SessionStateFile stateFile) {
+        Optional<IOSDriver> reattached = stateFile.readSessionId(appiumServerUrl, options)
+                .map(sessionId -> (IOSDriver) new ReattachedIOSDriver(appiumServerUrl, sessionId))
+                .filter(SessionStateFile::isAlive);
+        if (reattached.isPresent()) {
+            LOGGER.debug("Reattached to existing IOSDriver session {}.", reattached.get().getSessionId());
+            return reattached.get();
+        }
+        IOSDriver driver = createDriver(options, appiumServerUrl);
+        stateFile.write(driver.getSessionId().toString(), appiumServerUrl, options);
+        return driver;
     }
 
     @Override
     public void setDriver(IOSDriver driver) {
-        this.iosDriver = driver;
+        iosDriver.set(driver);
+        if (driver != null) {
+            DriverSessionManager.assignOwner(driver, Thread.currentThread());
+        }
     }
 
     @Override
     public void closeDriver() {
-        if (iosDriver != null) {
-            iosDriver.close();
-            iosDriver = null;
+        IOSDriver driver = iosDriver.remove();
+        if (driver != null) {
+            driver.close();
+            DriverSessionManager.deregisterIfEnded(driver);
             LOGGER.debug("IOSDriver session closed.");
         }
     }
 
     @Override
     public void quitDriver() {
-        if (iosDriver != null) {
-            iosDriver.quit();
-            iosDriver = null;
+        IOSDriver driver = iosDriver.remove();
+        if (driver != null) {
+            SessionId sessionId = driver.getSessionId();  // Cleared by quit()
+            DriverSessionManager.deregisterDriver(driver);
+            driver.quit();
+            SessionStateFile stateFile = sessionStateFile;
+            if (stateFile != null && sessionId != null) {
+                stateFile.delete(sessionId.toString());
+            }
             LOGGER.debug("IOSDriver session quit.");
         }
     }
 
     @Override
     public void ensureDriverInitialized() {
-        if (iosDriver == null) {
+        if (iosDriver.get() == null) {
             throw new IllegalStateException("IOSDriver not initialized.");
         }
     }
+
+    /**
+     * IOSDriver reattached to a persisted session. The session address constructor talks through a client of its own,
+     * so the executor is replaced by one on the shared client, as used by fresh sessions.
+     */
+    private static final class ReattachedIOSDriver extends IOSDriver {
+        private ReattachedIOSDriver(URL appiumServerUrl, String sessionId) {
+            super(SessionStateFile.sessionAddress(appiumServerUrl, sessionId));
+            setCommandExecutor(SessionStateFile.commandExecutor(appiumServerUrl));  // The replaced client is never used
+        }
+    }
 }
@@ -0,0 +1,125 @@
+package org.autoutils.driver;
+
+import org.openqa.selenium.HasCapabilities;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.TakesScreenshot;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WrapsDriver;
+import org.openqa.selenium.interactions.Interactive;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+
+/**
+ * LazyWebDriver backs a WebDriver proxy that launches the real browser through {@link WebDriverFactory} only when
+ * the first actual command is sent. Quitting or closing a proxy that was never used does nothing.
+ *
+ * <p>The proxy implements {@link WebDriver}, {@link JavascriptExecutor}, {@link TakesScreenshot},
+ * {@link HasCapabilities}, {@link Interactive} and {@link WrapsDriver}; use {@link WrapsDriver#getWrappedDriver()}
+ * to reach browser-specific APIs of the real driver.</p>
+ */
+final class LazyWebDriver implements InvocationHandler {
+    private static final Logger LOGGER = LoggerFactory.getLogger(LazyWebDriver.class);
+
+    private static final Class<?>[] PROXY_INTERFACES = {
+            WebDriver.class, JavascriptExecutor.class, TakesScreenshot.class, HasCapabilities.class, Interactive.class, WrapsDriver.class
+    };
+
+    private final String browser;
+    private final Object options;
+    private volatile WebDriver delegate;
+
+    private LazyWebDriver(String browser, Object options) {
+        this.browser = browser;
+        this.options = options;
+    }
+
+    /**
+     * Create a proxy that launches the given browser on its first command.
+     *
+     * @param browser The browser type (chrome, firefox, edge, ie, safari).
+     * @param options The browser-specific options.
+     * @return The lazy WebDriver proxy.
+     */
+    static WebDriver create(String browser, Object options) {
+        return (WebDriver) Proxy.newProxyInstance(LazyWebDriver.class.getClassLoader(), PROXY_INTERFACES, new LazyWebDriver(browser, options));
+    }
+
+    /**
+     * Resolve a lazy proxy to the real driver it has launched.
+     *
+     * @param driver Any driver.
+     * @return The real driver if the given driver is a started lazy proxy, otherwise the given driver itself.
+     */
+    static WebDriver unwrapIfStarted(WebDriver driver) {
+        if (driver != null && Proxy.isProxyClass(driver.getClass())
+                && Proxy.getInvocationHandler(driver) instanceof LazyWebDriver lazyWebDriver && lazyWebDriver.delegate != null) {
+            return lazyWebDriver.delegate;
+        }
+        return driver;
+    }
+
+    /**
+     * Check whether a driver is a lazy proxy that has not launched its browser yet.
+     *
+     * @param driver Any driver.
+     * @return true if the given driver is a lazy proxy without a real driver.
+     */
+    static boolean isUnstarted(WebDriver driver) {
+        return driver != null && Proxy.isProxyClass(driver.getClass())
+                && Proxy.getInvocationHandler(driver) instanceof LazyWebDriver lazyWebDriver && lazyWebDriver.delegate == null;
+    }
+
+    @Override
+    public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+        switch (method.getName()) {
+            case "quit", "close" -> {
+                if (delegate == null) {
+                    return null;  // Never used, nothing to tear down
+                }
+                if (method.getName().equals("quit")) {
+                    DriverSessionManager.deregisterDriver(delegate);
+                }
+            }
+            case "equals" -> {
+                return proxy == args[0];
+            }
+            case "hashCode" -> {
+                return System.identityHashCode(proxy);
+            }
+            case "toString" -> {
+                return delegate == null ? "LazyWebDriver{" + browser + ", not started}" : "LazyWebDriver{" + delegate + "}";
+            }
+            case "getWrappedDriver" -> {
+                return getOrStartDelegate();
+            }
+            default -> {
+                // Every other method is an actual command
+            }
+        }
+        try {
+            return method.invoke(getOrStartDelegate(), args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+
+    private WebDriver getOrStartDelegate() {
+        WebDriver driver = delegate;
+        if (driver == null) {
+            synchronized (this) {
+                driver = delegate;
+                if (driver == null) {
+                    LOGGER.debug("First command on lazy {} driver, launching browser.", browser);
+                    driver = WebDriverFactory.createWebDriver(browser, options);
+                    delegate = driver;
+                }
+            }
+        }
+        return driver;
+    }
+}
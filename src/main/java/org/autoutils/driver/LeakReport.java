@@ -0,0 +1,33 @@
+package org.autoutils.driver;
+
+import java.time.Instant;
+
+/**
+ * Report of a session reaped by {@link SessionReaper} because it was leaked by its owner.
+ *
+ * @param sessionId     The id of the reaped session.
+ * @param platform      The platform of the reaped session.
+ * @param callSite      The code location that created the session.
+ * @param ownerThread   The name of the thread that owned the session.
+ * @param reason        Why the session was considered leaked.
+ * @param createdAt     The time the session was created.
+ * @param lastCommandAt The last time the session was used.
+ * @param reapedAt      The time the session was reaped.
+ */
+public record LeakReport(String sessionId, String platform, String callSite, String ownerThread, Reason reason,
+                         Instant createdAt, Instant lastCommandAt, Instant reapedAt) {
+
+    /**
+     * The reason a session was considered leaked.
+     */
+    public enum Reason {
+        /**
+         * The thread owning the session terminated without quitting it.
+         */
+        OWNER_TERMINATED,
+        /**
+         * The session was not used for longer than the idle threshold.
+         */
+        IDLE
+    }
+}
@@ -0,0 +1,13 @@
+package org.autoutils.driver;
+
+import java.net.URL;
+
+/**
+ * A device of the inventory scheduled by {@link DeviceScheduler}.
+ *
+ * @param udid      The unique device identifier.
+ * @param platform  The platform of the device ("android" or "ios").
+ * @param serverUrl The URL of the Appium server the device is attached to.
+ */
+public record MobileDevice(String udid, String platform, URL serverUrl) {
+}
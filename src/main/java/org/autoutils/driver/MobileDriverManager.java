@@ -4,11 +4,21 @@ import io.appium.java_client.AppiumDriver;
 import io.appium.java_client.android.options.UiAutomator2Options;
 import io.appium.java_client.ios.options.XCUITestOptions;
 import org.autoutils.driver.exception.InvalidMobilePlatformException;
+import org.autoutils.driver.exception.SessionCreationTimeoutException;
 import org.autoutils.driver.exception.UnknownPlatformException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.net.URL;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
 
 /**
  * MobileDriverManager is responsible for providing and initializing the appropriate mobile driver
@@ -17,6 +27,14 @@ import java.net.URL;
 public class MobileDriverManager {
     private static final Logger LOGGER = LoggerFactory.getLogger(MobileDriverManager.class);
 
+    private static final int DEFAULT_MAX_CONCURRENT_SESSION_CREATIONS = 16;
+    private static final Duration DEFAULT_SESSION_CREATION_TIMEOUT = Duration.ofMinutes(3);
+    private static final ExecutorService SESSION_CREATION_EXECUTOR = Executors.newThreadPerTaskExecutor(
+            Thread.ofVirtual().name("mobile-session-", 0).factory());
+
+    private static volatile Semaphore sessionCreationPermits = new Semaphore(DEFAULT_MAX_CONCURRENT_SESSION_CREATIONS, true);
+    private static volatile Duration sessionCreationTimeout = DEFAULT_SESSION_CREATION_TIMEOUT;
+
     /**
      * Get mobile driver for Android using UiAutomator2Options.
      *
@@ -26,7 +44,6 @@ public class MobileDriverManager {
      */
     public static AppiumDriver getAndroidDriver(UiAutomator2Options options, URL appiumServerUrl) {
         AppiumDriver driver = AndroidDriverFactory.getInstance().getDriver(options, appiumServerUrl);
-        DriverSessionManager.registerDriver(driver);
         LOGGER.debug("Android driver initialized successfully.");
         return driver;
     }
@@ -40,7 +57,6 @@ public class MobileDriverManager {
      */
     public static AppiumDriver getIOSDriver(XCUITestOptions options, URL appiumServerUrl) {
         AppiumDriver driver = IOSDriverFactory.getInstance().getDriver(options, appiumServerUrl);
-        DriverSessionManager.registerDriver(driver);
         LOGGER.debug("iOS driver initialized successfully.");
         return driver;
     }
@@ -80,6 +96,180 @@ public class MobileDriverManager {
         return getMobileDriver(platform, androidOptions, iosOptions, appiumServerUrl);
     }
 
+    /**
+     * Opt in to reattaching to existing Appium sessions across JVM restarts. The id of each session created through
+     * {@link #getAndroidDriver} or {@link #getIOSDriver} is persisted in the given directory; on the next start, a
+     * session created against the same server with the same options is reattached to after a cheap liveness probe,
+     * skipping the full session creation. Sessions are persisted per device ({@code udid}, else {@code deviceName}),
+     * and the Appium server of a persisted session is left running by {@link OrphanedProcessSweeper}. Quitting the
+     * driver through its manager forgets the persisted session.
+     *
+     * <p>Intended for local iteration: end the run without quitting the driver to keep the session for the next one.</p>
+     *
+     * @param stateDirectory The directory holding the session state files.
+     */
+    public static void enableSessionReattach(Path stateDirectory) {
+        AndroidDriverFactory.getInstance().setSessionStateFile(new SessionStateFile(stateDirectory, "android"));
+        IOSDriverFactory.getInstance().setSessionStateFile(new SessionStateFile(stateDirectory, "ios"));
+    }
+
+    /**
+     * Disable reattaching to existing Appium sessions. Persisted state files are left in place.
+     */
+    public static void disableSessionReattach() {
+        AndroidDriverFactory.getInstance().setSessionStateFile(null);
+        IOSDriverFactory.getInstance().setSessionStateFile(null);
+    }
+
+    /**
+     * Set the maximum number of mobile sessions that may be created concurrently by the asynchronous methods.
+     * Requests above the cap wait for a free slot. Defaults to 16.
+     *
+     * @param maxConcurrentSessionCreations The maximum number of concurrent session creations.
+     * @throws IllegalArgumentException if the value is lower than one.
+     */
+    public static void setMaxConcurrentSessionCreations(int maxConcurrentSessionCreations) {
+        if (maxConcurrentSessionCreations < 1) {
+            throw new IllegalArgumentException("Concurrency cap must be at least 1, but was: " + maxConcurrentSessionCreations);
+        }
+        sessionCreationPermits = new Semaphore(maxConcurrentSessionCreations, true);
+    }
+
+    /**
+     * Set the deadline for a single asynchronous session creation, measured from the moment it is requested.
+     * Defaults to 3 minutes.
+     *
+     * @param timeout The maximum time a single session creation may take.
+     */
+    public static void setSessionCreationTimeout(Duration timeout) {
+        sessionCreationTimeout = timeout;
+    }
+
+    /**
+     * Create an Android driver asynchronously on a virtual thread.
+     * The returned driver is not bound to any thread; bind it with {@link AppiumDriverManager#setDriver} if needed.
+     *
+     * <p>Example of usage:</p>
+     * <pre>{@code
+     * CompletableFuture<AppiumDriver> pending = MobileDriverManager.getAndroidDriverAsync(options, appiumServerUrl);
+     * // ... do other setup work ...
+     * AppiumDriver driver = pending.join();
+     * }</pre>
+     *
+     * @param options         The UiAutomator2Options for Android.
+     * @param appiumServerUrl The URL of the Appium server.
+     * @return A future completed with the Android AppiumDriver instance, or exceptionally with a
+     * {@link SessionCreationTimeoutException} if the session was not created before the deadline.
+     */
+    public static CompletableFuture<AppiumDriver> getAndroidDriverAsync(UiAutomator2Options options, URL appiumServerUrl) {
+        return createSessionAsync("Android", appiumServerUrl, () -> AndroidDriverFactory.getInstance().createDriver(options, appiumServerUrl));
+    }
+
+    /**
+     * Create an iOS driver asynchronously on a virtual thread.
+     * The returned driver is not bound to any thread; bind it with {@link AppiumDriverManager#setDriver} if needed.
+     *
+     * @param options         The XCUITestOptions for iOS.
+     * @param appiumServerUrl The URL of the Appium server.
+     * @return A future completed with the iOS AppiumDriver instance, or exceptionally with a
+     * {@link SessionCreationTimeoutException} if the session was not created before the deadline.
+     */
+    public static CompletableFuture<AppiumDriver> getIOSDriverAsync(XCUITestOptions options, URL appiumServerUrl) {
+        return createSessionAsync("iOS", appiumServerUrl, () -> IOSDriverFactory.getInstance().createDriver(options, appiumServerUrl));
+    }
+
+    /**
+     * Create a mobile driver asynchronously based on the platform passed by the user.
+     *
+     * @param platform        The platform specified by the user ("android" or "ios").
+     * @param androidOptions  The UiAutomator2Options for Android.
+     * @param iosOptions      The XCUITestOptions for iOS.
+     * @param appiumServerUrl The URL of the Appium server.
+     * @return A future completed with the AppiumDriver instance (Android or iOS).
+     */
+    public static CompletableFuture<AppiumDriver> getMobileDriverAsync(String platform, UiAutomator2Options androidOptions, XCUITestOptions iosOptions, URL appiumServerUrl) {
+        validatePlatform(platform);  // Validate platform string
+
+        return switch (platform.toLowerCase()) {
+            case "android" -> getAndroidDriverAsync(androidOptions, appiumServerUrl);
+            case "ios" -> getIOSDriverAsync(iosOptions, appiumServerUrl);
+            default -> throw new UnknownPlatformException("Unsupported platform: " + platform);  // Fallback, shouldn't reach here
+        };
+    }
+
+    /**
+     * Create several Android drivers concurrently, e.g. one per device, within the configured concurrency cap.
+     * The whole batch takes roughly as long as the slowest single session.
+     *
+     * <p>If any session fails, the returned future completes exceptionally; sessions that were created successfully
+     * stay registered with {@link DriverSessionManager} and are released by {@link DriverSessionManager#quitAllDrivers()}.</p>
+     *
+     * @param optionsPerSession The UiAutomator2Options for each session to create (typically one per device UDID).
+     * @param appiumServerUrl   The URL of the Appium server.
+     * @return A future completed with the created drivers, in the same order as the given options.
+     */
+    public static CompletableFuture<List<AppiumDriver>> getAndroidDriversAsync(List<UiAutomator2Options> optionsPerSession, URL appiumServerUrl) {
+        List<CompletableFuture<AppiumDriver>> sessions = optionsPerSession.stream()
+                .map(options -> getAndroidDriverAsync(options, appiumServerUrl))
+                .toList();
+        return CompletableFuture.allOf(sessions.toArray(CompletableFuture[]::new))
+                .thenApply(ignored -> sessions.stream().map(CompletableFuture::join).toList());
+    }
+
+    /**
+     * Create a session on a virtual thread, honouring the concurrency cap, session admission and the per-session
+     * deadline. A session that finishes after its deadline has passed is quit immediately so it does not leak.
+     *
+     * @param platformName    The platform name used for logging.
+     * @param appiumServerUrl The URL of the Appium server, for admission.
+     * @param driverCreator   The supplier performing the blocking session handshake.
+     * @return A future completed with the created and registered driver.
+     */
+    private static CompletableFuture<AppiumDriver> createSessionAsync(String platformName, URL appiumServerUrl,
+                                                                      Supplier<? extends AppiumDriver> driverCreator) {
+        Semaphore permits = sessionCreationPermits;
+        Duration timeout = sessionCreationTimeout;
+        Thread requestingThread = Thread.currentThread();
+        String callSite = DriverSession.currentCallSite();
+        CompletableFuture<AppiumDriver> result = new CompletableFuture<>();
+
+        CompletableFuture.supplyAsync(() -> {
+            permits.acquireUninterruptibly();
+            try {
+                if (result.isDone()) {
+                    return null;  // Deadline already passed while waiting for a free slot
+                }
+                SessionAdmissionController.Admission admission = SessionAdmissionController.admit(platformName, appiumServerUrl);
+                try {
+                    AppiumDriver driver = driverCreator.get();
+                    DriverSessionManager.registerDriver(driver, platformName, requestingThread, callSite);
+                    return driver;
+                } finally {
+                    admission.close();
+                }
+            } finally {
+                permits.release();
+            }
+        }, SESSION_CREATION_EXECUTOR).whenComplete((driver, throwable) -> {
+            if (throwable != null) {
+                result.completeExceptionally(throwable);
+            } else if (driver != null) {
+                if (result.complete(driver)) {
+                    LOGGER.debug("{} driver initialized asynchronously.", platformName);
+                } else {
+                    DriverSessionManager.deregisterDriver(driver);
+                    driver.quit();
+                    LOGGER.warn("{} session created after its deadline and was quit.", platformName);
+                }
+            }
+        });
+
+        CompletableFuture.delayedExecutor(timeout.toMillis(), TimeUnit.MILLISECONDS).execute(() ->
+                result.completeExceptionally(new SessionCreationTimeoutException(
+                        platformName + " session was not created within " + timeout.toMillis() + " ms.")));
+        return result;
+    }
+
     /**
      * Helper method to validate the platform string.
      * This ensures that the platform is either "android" or "ios" and throws appropriate exceptions for invalid values.
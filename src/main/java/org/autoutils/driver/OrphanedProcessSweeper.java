@@ -0,0 +1,229 @@
+package org.autoutils.driver;
+
+import org.openqa.selenium.WebDriver;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.net.URL;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
+
+/**
+ * OrphanedProcessSweeper terminates driver, browser and Appium server processes left behind by earlier runs of this
+ * library, e.g. after a JVM crash.
+ *
+ * <p>Every local process tree started for a session or Appium server is recorded in a pid file owned by the current
+ * JVM, under {@code ${java.io.tmpdir}/autoutils-processes}. A sweep only considers pid files whose owner JVM is no
+ * longer running, and only terminates recorded processes whose start time still matches the recorded one, so
+ * reused pids and browsers started outside this library are left alone. The pid file of the current JVM is removed
+ * at shutdown once every session has been quit.</p>
+ *
+ * <p>Appium servers of sessions persisted for reattaching (see {@link MobileDriverManager#enableSessionReattach}) are
+ * retained: a sweep leaves them running for as long as the session's state file exists.</p>
+ *
+ * <p>Sweeping is explicit: call {@link #sweep()} once at the start of a run, e.g. from a suite-level setup method,
+ * before the first session is created.</p>
+ */
+public final class OrphanedProcessSweeper {
+    private static final Logger LOGGER = LoggerFactory.getLogger(OrphanedProcessSweeper.class);
+
+    private static final Path PID_DIRECTORY = Path.of(System.getProperty("java.io.tmpdir"), "autoutils-processes");
+    private static final String PID_FILE_SUFFIX = ".pids";
+    private static final String OWNER_PREFIX = "owner ";
+    private static final String RETAIN_PREFIX = "retain ";
+
+    private static final ProcessHandle OWNER = ProcessHandle.current();
+    private static final Optional<Long> OWNER_START = startMillis(OWNER);
+    // Named after pid and start time, as containers often give every run the same pid
+    private static final Path OWN_PID_FILE = PID_DIRECTORY.resolve(OWNER.pid() + "-" + OWNER_START.orElse(0L) + PID_FILE_SUFFIX);
+
+    private OrphanedProcessSweeper() {
+        // Private constructor to prevent instantiation
+    }
+
+    /**
+     * Terminate the recorded processes of every earlier run whose JVM is no longer running. Runs on the calling
+     * thread; call it before creating sessions, so the sweep does not compete with session start-up.
+     *
+     * @return The number of process trees terminated.
+     */
+    public static int sweep() {
+        if (!Files.isDirectory(PID_DIRECTORY)) {
+            return 0;
+        }
+        int killed = 0;
+        try (DirectoryStream<Path> pidFiles = Files.newDirectoryStream(PID_DIRECTORY, "*" + PID_FILE_SUFFIX)) {
+            for (Path pidFile : pidFiles) {
+                killed += sweepPidFile(pidFile);
+            }
+        } catch (IOException e) {
+            LOGGER.warn("Orphaned processes could not be swept: {}", e.toString());
+        }
+        if (killed > 0) {
+            LOGGER.info("Terminated {} orphaned driver process trees left by earlier runs.", killed);
+        }
+        return killed;
+    }
+
+    /**
+     * Record the local driver service process of a driver and the browser processes it has spawned so far.
+     * Remote drivers and Appium sessions have no local service process and are ignored.
+     *
+     * @param driver The newly created driver.
+     */
+    static void record(WebDriver driver) {
+        DriverProcesses.findServiceProcess(driver).ifPresent(OrphanedProcessSweeper::recordTree);
+    }
+
+    /**
+     * Record the local server process listening on the port of the given URL, e.g. an Appium server started by
+     * this JVM, together with its descendants.
+     *
+     * @param serverUrl The URL the server listens on.
+     */
+    public static void recordServerProcess(URL serverUrl) {
+        DriverProcesses.findDescendantListeningOn(serverUrl.getPort()).ifPresent(server -> recordTree(server, " " + serverUrl.getPort()));
+    }
+
+    /**
+     * Keep the server listening on the port of the given URL out of later sweeps while a state file exists, as a
+     * persisted session on it is meant to be reattached to by a later run.
+     *
+     * @param serverUrl The URL of the server the session runs on.
+     * @param stateFile The state file of the session.
+     */
+    static synchronized void retainServerProcess(URL serverUrl, Path stateFile) {
+        if (OWNER_START.isEmpty()) {
+            return;
+        }
+        appendToOwnPidFile(RETAIN_PREFIX + serverUrl.getPort() + ' ' + stateFile.toAbsolutePath() + '\n');
+    }
+
+    /**
+     * Remove the pid file of the current JVM. Called at shutdown once no session is left running.
+     */
+    static void forgetOwnProcesses() {
+        try {
+            Files.deleteIfExists(OWN_PID_FILE);
+        } catch (IOException e) {
+            LOGGER.debug("Pid file {} could not be deleted: {}", OWN_PID_FILE, e.toString());
+        }
+    }
+
+    private static void recordTree(ProcessHandle root) {
+        recordTree(root, "");
+    }
+
+    /**
+     * Record a process tree as "pid startMillis" lines, followed by the given suffix, e.g. the port of a server.
+     */
+    private static synchronized void recordTree(ProcessHandle root, String suffix) {
+        if (OWNER_START.isEmpty()) {
+            return;  // Without start times, recorded pids could not be told apart from reused ones
+        }
+        StringBuilder lines = new StringBuilder();
+        Stream.concat(Stream.of(root), root.descendants())
+                .forEach(process -> startMillis(process).ifPresent(start -> lines.append(process.pid()).append(' ').append(start).append(suffix).append('\n')));
+        appendToOwnPidFile(lines);
+    }
+
+    private static void appendToOwnPidFile(CharSequence lines) {
+        try {
+            Files.createDirectories(PID_DIRECTORY);
+            if (!Files.exists(OWN_PID_FILE)) {
+                Files.writeString(OWN_PID_FILE, OWNER_PREFIX + OWNER.pid() + ' ' + OWNER_START.get() + '\n');
+            }
+            Files.writeString(OWN_PID_FILE, lines, StandardOpenOption.APPEND);
+        } catch (IOException e) {
+            LOGGER.debug("Pid file {} could not be written: {}", OWN_PID_FILE, e.toString());
+        }
+    }
+
+    private static int sweepPidFile(Path pidFile) throws IOException {
+        List<String> lines = Files.readAllLines(pidFile);
+        if (lines.isEmpty() || !lines.get(0).startsWith(OWNER_PREFIX)) {
+            return 0;
+        }
+        if (isRunning(lines.get(0).substring(OWNER_PREFIX.length()))) {
+            return 0;  // Owner JVM still running, its processes are not orphaned
+        }
+        Set<String> retainedPorts = new HashSet<>();
+        List<String> retainLines = new ArrayList<>();
+        for (String line : lines) {
+            if (line.startsWith(RETAIN_PREFIX)) {
+                String[] fields = line.substring(RETAIN_PREFIX.length()).split(" ", 2);
+                if (fields.length == 2 && Files.isRegularFile(Path.of(fields[1]))) {
+                    retainedPorts.add(fields[0]);
+                    retainLines.add(line);
+                }
+            }
+        }
+        int killed = 0;
+        List<String> retained = new ArrayList<>();
+        for (String line : lines.subList(1, lines.size())) {
+            if (line.startsWith(RETAIN_PREFIX)) {
+                continue;
+            }
+            String[] fields = line.trim().split(" ");
+            if (fields.length == 3 && retainedPorts.contains(fields[2])) {
+                retained.add(line);  // Server of a persisted session, left running for reattaching
+                continue;
+            }
+            Optional<ProcessHandle> process = recordedProcess(line);
+            if (process.isPresent()) {
+                LOGGER.debug("Terminating orphaned process {} ({}).", process.get().pid(), process.get().info().command().orElse("unknown"));
+                DriverProcesses.destroyTree(process.get());
+                killed++;
+            }
+        }
+        if (retained.isEmpty()) {
+            Files.deleteIfExists(pidFile);
+        } else {
+            // Keep the retained records, so the server is swept once its session state is gone
+            List<String> remaining = new ArrayList<>();
+            remaining.add(lines.get(0));
+            remaining.addAll(retained);
+            remaining.addAll(retainLines);
+            Files.write(pidFile, remaining);
+        }
+        return killed;
+    }
+
+    private static boolean isRunning(String record) {
+        return recordedProcess(record).isPresent();
+    }
+
+    /**
+     * Resolve a "pid startMillis [port]" record to the process, provided it is still alive and started at the
+     * recorded time.
+     */
+    private static Optional<ProcessHandle> recordedProcess(String record) {
+        String[] fields = record.trim().split(" ");
+        if (fields.length != 2 && fields.length != 3) {
+            return Optional.empty();
+        }
+        try {
+            long pid = Long.parseLong(fields[0]);
+            long recordedStart = Long.parseLong(fields[1]);
+            return ProcessHandle.of(pid)
+                    .filter(ProcessHandle::isAlive)
+                    .filter(process -> startMillis(process).map(start -> start == recordedStart).orElse(false));
+        } catch (NumberFormatException e) {
+            return Optional.empty();
+        }
+    }
+
+    private static Optional<Long> startMillis(ProcessHandle process) {
+        return process.info().startInstant().map(Instant::toEpochMilli);
+    }
+}
@@ -0,0 +1,192 @@
+package org.autoutils.driver;
+
+import org.openqa.selenium.ImmutableCapabilities;
+import org.openqa.selenium.PageLoadStrategy;
+import org.openqa.selenium.chrome.ChromeOptions;
+import org.openqa.selenium.chromium.ChromiumOptions;
+import org.openqa.selenium.edge.EdgeOptions;
+import org.openqa.selenium.firefox.FirefoxOptions;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * PerformanceProfile is a named set of browser settings tuned for fast and stable test runs. Profiles are applied on
+ * top of the user options for Chrome, Edge and Firefox and can be combined, e.g. {@code FAST_HEADLESS} together with
+ * {@code DETERMINISTIC}. Settings of a profile override the same settings in the user options, except for
+ * {@code --disable-features}, whose values are merged with the user's. Profiles are applied to a copy, so the same
+ * user options can be reused for any number of sessions.
+ *
+ * <p>Example of usage:</p>
+ * <pre>{@code
+ * WebDriver driver = WebDriverManager.getInstance().getDriver("chrome", new ChromeOptions(),
+ *         PerformanceProfile.FAST_HEADLESS, PerformanceProfile.DETERMINISTIC);
+ * }</pre>
+ */
+public enum PerformanceProfile {
+
+    /**
+     * Headless browser without GPU, extensions, first-run tasks or background throttling, returning from navigation
+     * once the DOM is ready instead of waiting for every sub-resource.
+     */
+    FAST_HEADLESS {
+        @Override
+        void applyToChromium(ChromiumOptions<?> options) {
+            options.addArguments("--headless=new", "--disable-gpu", "--disable-extensions", "--no-first-run",
+                    "--no-default-browser-check", "--disable-default-apps", "--disable-component-update", "--disable-sync",
+                    "--disable-background-timer-throttling", "--disable-backgrounding-occluded-windows",
+                    "--disable-renderer-backgrounding");
+            options.setPageLoadStrategy(PageLoadStrategy.EAGER);
+        }
+
+        @Override
+        void applyToFirefox(FirefoxOptions options) {
+            options.addArguments("-headless");
+            options.addPreference("browser.shell.checkDefaultBrowser", false);
+            options.addPreference("app.update.auto", false);
+            options.addPreference("extensions.update.enabled", false);
+            options.addPreference("datareporting.policy.dataSubmissionEnabled", false);
+            options.addPreference("toolkit.telemetry.enabled", false);
+            options.setPageLoadStrategy(PageLoadStrategy.EAGER);
+        }
+    },
+
+    /**
+     * Fewer processes and caches per browser, for running many sessions on one machine or inside containers with a
+     * small {@code /dev/shm}.
+     */
+    LOW_MEMORY {
+        @Override
+        void applyToChromium(ChromiumOptions<?> options) {
+            options.addArguments("--disable-dev-shm-usage", "--disable-extensions", "--disable-background-networking",
+                    "--mute-audio", "--renderer-process-limit=2",
+                    "--disable-features=Translate,OptimizationHints,MediaRouter,site-per-process");
+        }
+
+        @Override
+        void applyToFirefox(FirefoxOptions options) {
+            options.addPreference("dom.ipc.processCount", 2);
+            options.addPreference("browser.sessionhistory.max_total_viewers", 0);
+            options.addPreference("browser.cache.memory.capacity", 65536);
+            options.addPreference("media.autoplay.default", 5);
+        }
+    },
+
+    /**
+     * Fixed window size, scale, color profile and language, with timers kept running in the background, so
+     * screenshots and layout-dependent assertions give the same result on every machine.
+     */
+    DETERMINISTIC {
+        @Override
+        void applyToChromium(ChromiumOptions<?> options) {
+            options.addArguments("--window-size=1920,1080", "--force-device-scale-factor=1", "--force-color-profile=srgb",
+                    "--hide-scrollbars", "--font-render-hinting=none", "--lang=en-US",
+                    "--disable-background-timer-throttling", "--disable-backgrounding-occluded-windows",
+                    "--disable-renderer-backgrounding");
+        }
+
+        @Override
+        void applyToFirefox(FirefoxOptions options) {
+            options.addArguments("-width=1920", "-height=1080");
+            options.addPreference("layout.css.devPixelsPerPx", "1.0");
+            options.addPreference("intl.accept_languages", "en-US");
+            options.addPreference("ui.prefersReducedMotion", 1);
+        }
+    };
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(PerformanceProfile.class);
+    private static final String DISABLE_FEATURES_ARGUMENT = "--disable-features=";
+
+    abstract void applyToChromium(ChromiumOptions<?> options);
+
+    abstract void applyToFirefox(FirefoxOptions options);
+
+    /**
+     * Apply this profile to a copy of browser options. Options of browsers without profile support (IE, Safari) are
+     * returned unchanged.
+     *
+     * @param options ChromeOptions, EdgeOptions or FirefoxOptions; not modified.
+     * @return The copy with the profile applied.
+     */
+    public Object applyTo(Object options) {
+        return applyAll(options, this);
+    }
+
+    /**
+     * Apply several profiles to a copy of browser options, in order. Options of browsers without profile support
+     * (IE, Safari) are returned unchanged.
+     *
+     * @param options  ChromeOptions, EdgeOptions or FirefoxOptions; not modified.
+     * @param profiles The profiles to apply.
+     * @return The copy with the profiles applied.
+     */
+    public static Object applyAll(Object options, PerformanceProfile... profiles) {
+        if (profiles.length == 0) {
+            return options;
+        }
+        if (options instanceof ChromeOptions || options instanceof EdgeOptions) {
+            ChromiumOptions<?> copy = copyOf(new ImmutableCapabilities(((ChromiumOptions<?>) options).asMap()), options);
+            for (PerformanceProfile profile : profiles) {
+                profile.applyToChromium(copy);
+            }
+            return withMergedDisabledFeatures(copy);
+        }
+        if (options instanceof FirefoxOptions firefoxOptions) {
+            FirefoxOptions copy = new FirefoxOptions().merge(firefoxOptions);
+            for (PerformanceProfile profile : profiles) {
+                profile.applyToFirefox(copy);
+            }
+            return copy;
+        }
+        LOGGER.warn("Performance profiles {} do not support {}, options left unchanged.", Arrays.toString(profiles),
+                options == null ? null : options.getClass().getSimpleName());
+        return options;
+    }
+
+    /**
+     * Chromium honours only the last {@code --disable-features} argument, so combine the values of all of them into
+     * one argument in place of the first.
+     */
+    private static ChromiumOptions<?> withMergedDisabledFeatures(ChromiumOptions<?> options) {
+        String capabilityName = options instanceof EdgeOptions ? EdgeOptions.CAPABILITY : ChromeOptions.CAPABILITY;
+        Map<String, Object> capabilities = new HashMap<>(options.asMap());
+        if (!(capabilities.get(capabilityName) instanceof Map<?, ?> vendorOptions)
+                || !(vendorOptions.get("args") instanceof List<?> args)) {
+            return options;
+        }
+        Set<String> disabledFeatures = new LinkedHashSet<>();
+        List<Object> mergedArgs = new ArrayList<>();
+        int disableFeaturesCount = 0;
+        for (Object arg : args) {
+            if (String.valueOf(arg).startsWith(DISABLE_FEATURES_ARGUMENT)) {
+                if (disableFeaturesCount++ == 0) {
+                    mergedArgs.add(disabledFeatures);  // Placeholder, replaced once every value is known
+                }
+                disabledFeatures.addAll(List.of(String.valueOf(arg).substring(DISABLE_FEATURES_ARGUMENT.length()).split(",")));
+            } else {
+                mergedArgs.add(arg);
+            }
+        }
+        if (disableFeaturesCount < 2) {
+            return options;
+        }
+        disabledFeatures.remove("");
+        mergedArgs.replaceAll(arg -> arg == disabledFeatures ? DISABLE_FEATURES_ARGUMENT + String.join(",", disabledFeatures) : arg);
+        Map<String, Object> mergedVendorOptions = new HashMap<>();
+        vendorOptions.forEach((key, value) -> mergedVendorOptions.put(String.valueOf(key), value));
+        mergedVendorOptions.put("args", mergedArgs);
+        capabilities.put(capabilityName, mergedVendorOptions);
+        return copyOf(new ImmutableCapabilities(capabilities), options);
+    }
+
+    private static ChromiumOptions<?> copyOf(ImmutableCapabilities capabilities, Object options) {
+        return options instanceof EdgeOptions ? new EdgeOptions().merge(capabilities) : new ChromeOptions().merge(capabilities);
+    }
+}
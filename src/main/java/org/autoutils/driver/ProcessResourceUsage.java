@@ -0,0 +1,17 @@
+package org.autoutils.driver;
+
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * Resource usage of the local process tree backing a session: the driver service process and every browser
+ * process it spawned.
+ *
+ * @param cpuTime      The total CPU time consumed by the processes of the tree.
+ * @param rssBytes     The summed resident set size of the processes, or -1 where it cannot be read (outside Linux).
+ *                     Memory shared between processes is counted once per process.
+ * @param processCount The number of live processes in the tree when it was sampled.
+ * @param sampledAt    The time the sample was taken.
+ */
+public record ProcessResourceUsage(Duration cpuTime, long rssBytes, int processCount, Instant sampledAt) {
+}
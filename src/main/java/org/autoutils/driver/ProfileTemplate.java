@@ -0,0 +1,270 @@
+package org.autoutils.driver;
+
+import org.autoutils.driver.exception.InvalidBrowserOptionsException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.chrome.ChromeOptions;
+import org.openqa.selenium.chromium.ChromiumOptions;
+import org.openqa.selenium.edge.EdgeOptions;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+/**
+ * ProfileTemplate is a warmed Chrome or Edge user data directory that new sessions start from instead of an empty
+ * one. The template is built once by a real browser visiting warm-up pages, so first-run work is done and the HTTP
+ * cache and compiled code cache are filled; every session then gets its own clone. Cookies, local storage and session
+ * storage written by the warm-up pages are removed from the template, so sessions start logged out and with empty
+ * storage.
+ *
+ * <p>Templates and clones live in {@code /dev/shm} (RAM-backed) when it has at least 512 MB of free space, otherwise
+ * in the temporary directory; container runtimes often limit {@code /dev/shm} to 64 MB. Every file is copied into a
+ * clone, as the browser rewrites cache files in place and a shared file would change the template. A clone is deleted
+ * as soon as its browser exits, and any clone left at JVM shutdown is deleted then.</p>
+ *
+ * <p>Example of usage:</p>
+ * <pre>{@code
+ * ProfileTemplate template = ProfileTemplate.build("chrome", new ChromeOptions().addArguments("--headless=new"),
+ *         List.of("https://app.example.com/"));
+ * WebDriverManager.getInstance().setProfileTemplate(template);
+ * }</pre>
+ */
+public final class ProfileTemplate {
+    private static final Logger LOGGER = LoggerFactory.getLogger(ProfileTemplate.class);
+
+    private static final long MIN_SHARED_MEMORY_FREE_BYTES = 512L * 1024 * 1024;
+    private static final Path PROFILE_ROOT = profileRoot().resolve("autoutils-profiles");
+    private static final String USER_DATA_DIR_ARGUMENT = "--user-data-dir=";
+    private static final Set<String> SKIPPED_FILES = Set.of("SingletonLock", "SingletonSocket", "SingletonCookie", "lockfile");
+    // State of the warm-up pages, which must not leak into sessions
+    private static final Set<String> SESSION_STATE_FILES = Set.of("Cookies", "Cookies-journal");
+    private static final Set<String> SESSION_STATE_DIRECTORIES = Set.of("Local Storage", "Session Storage");
+
+    private static final Set<Path> liveClones = ConcurrentHashMap.newKeySet();
+
+    static {
+        Runtime.getRuntime().addShutdownHook(Thread.ofPlatform().name("profile-clone-cleanup").unstarted(
+                () -> liveClones.forEach(ProfileTemplate::deleteQuietly)));
+    }
+
+    private final String browser;
+    private final Path directory;
+
+    private ProfileTemplate(String browser, Path directory) {
+        this.browser = browser;
+        this.directory = directory;
+    }
+
+    /**
+     * Build a template by launching the browser once on a fresh profile, visiting the warm-up pages and quitting.
+     *
+     * @param browser    "chrome" or "edge".
+     * @param options    The options to launch the browser with; not modified.
+     * @param warmUpUrls The pages whose resources should be cached in the template.
+     * @return The built template.
+     * @throws InvalidBrowserOptionsException if the browser or options are not Chrome or Edge.
+     */
+    public static ProfileTemplate build(String browser, ChromiumOptions<?> options, List<String> warmUpUrls) {
+        Path directory;
+        try {
+            Files.createDirectories(PROFILE_ROOT);
+            directory = Files.createTempDirectory(PROFILE_ROOT, "template-" + browser.toLowerCase(Locale.ROOT) + "-");
+        } catch (IOException e) {
+            throw new UncheckedIOException("Profile template directory could not be created", e);
+        }
+        ChromiumOptions<?> buildOptions = withUserDataDir(options, directory);
+        buildOptions.addArguments("--no-first-run", "--no-default-browser-check");
+        WebDriver driver;
+        try {
+            driver = WebDriverFactory.createWebDriver(browser, buildOptions);
+        } catch (RuntimeException e) {
+            deleteQuietly(directory);
+            throw e;
+        }
+        try {
+            warmUpUrls.forEach(driver::get);
+        } finally {
+            DriverSessionManager.deregisterDriver(driver);
+            driver.quit();  // Flushes the caches to disk
+        }
+        removeSessionState(directory);
+        LOGGER.info("Built {} profile template in {} from {} warm-up pages.", browser, directory, warmUpUrls.size());
+        return new ProfileTemplate(browser.toLowerCase(Locale.ROOT), directory);
+    }
+
+    /**
+     * @return The browser the template was built for.
+     */
+    public String getBrowser() {
+        return browser;
+    }
+
+    /**
+     * @return The directory holding the template.
+     */
+    public Path getDirectory() {
+        return directory;
+    }
+
+    /**
+     * Delete the template. Clones already handed out are not affected.
+     */
+    public void delete() {
+        deleteQuietly(directory);
+    }
+
+    /**
+     * Delete a clone once every browser process using it has exited.
+     *
+     * @param clone The clone directory.
+     */
+    static void deleteOnBrowserExit(Path clone) {
+        String argument = USER_DATA_DIR_ARGUMENT + clone;
+        List<CompletableFuture<ProcessHandle>> browserExits = ProcessHandle.current().descendants()
+                .filter(process -> Stream.of(process.info().arguments().orElse(new String[0])).anyMatch(argument::equals))
+                .map(ProcessHandle::onExit)
+                .toList();
+        if (browserExits.isEmpty()) {
+            return;  // No local browser found, deleted at shutdown
+        }
+        CompletableFuture.allOf(browserExits.toArray(CompletableFuture[]::new)).thenRun(() -> deleteQuietly(clone));
+    }
+
+    /**
+     * Check whether options already set their own user data directory, which must not be replaced by a clone.
+     *
+     * @param options The session options.
+     * @return true if the options contain a user data directory argument.
+     */
+    static boolean hasUserDataDir(ChromiumOptions<?> options) {
+        return options.asMap().values().stream()
+                .filter(Map.class::isInstance)
+                .map(browserOptions -> ((Map<?, ?>) browserOptions).get("args"))
+                .filter(Collection.class::isInstance)
+                .flatMap(args -> ((Collection<?>) args).stream())
+                .anyMatch(arg -> String.valueOf(arg).startsWith(USER_DATA_DIR_ARGUMENT));
+    }
+
+    /**
+     * Delete a directory tree, ignoring failures.
+     *
+     * @param root The directory to delete.
+     */
+    static void deleteQuietly(Path root) {
+        if (!Files.exists(root)) {
+            liveClones.remove(root);
+            return;
+        }
+        try (Stream<Path> paths = Files.walk(root)) {
+            paths.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+        } catch (IOException | UncheckedIOException e) {
+            LOGGER.debug("Profile directory {} could not be deleted: {}", root, e.toString());
+        }
+        liveClones.remove(root);
+    }
+
+    /**
+     * Clone the template for a new session.
+     *
+     * @return The clone directory, to be passed to {@link #withUserDataDir(ChromiumOptions, Path)}.
+     */
+    Path cloneProfile() {
+        try {
+            Path clone = Files.createTempDirectory(PROFILE_ROOT, "session-");
+            liveClones.add(clone);
+            Files.walkFileTree(directory, new SimpleFileVisitor<>() {
+                @Override
+                public FileVisitResult preVisitDirectory(Path dir, BasicFileAttributes attributes) throws IOException {
+                    if (isSessionState(dir)) {
+                        return FileVisitResult.SKIP_SUBTREE;
+                    }
+                    Files.createDirectories(clone.resolve(directory.relativize(dir)));
+                    return FileVisitResult.CONTINUE;
+                }
+
+                @Override
+                public FileVisitResult visitFile(Path file, BasicFileAttributes attributes) throws IOException {
+                    String fileName = file.getFileName().toString();
+                    if (attributes.isRegularFile() && !SKIPPED_FILES.contains(fileName) && !isSessionState(file)) {
+                        Files.copy(file, clone.resolve(directory.relativize(file)), StandardCopyOption.COPY_ATTRIBUTES);
+                    }
+                    return FileVisitResult.CONTINUE;
+                }
+            });
+            return clone;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Profile template " + directory + " could not be cloned", e);
+        }
+    }
+
+    private static boolean isSessionState(Path path) {
+        String fileName = path.getFileName().toString();
+        return SESSION_STATE_FILES.contains(fileName) || SESSION_STATE_DIRECTORIES.contains(fileName);
+    }
+
+    /**
+     * Remove the cookies and storage the warm-up pages left in a freshly built template.
+     */
+    private static void removeSessionState(Path template) {
+        try (Stream<Path> paths = Files.walk(template)) {
+            paths.filter(ProfileTemplate::isSessionState).toList().forEach(ProfileTemplate::deleteQuietly);
+        } catch (IOException | UncheckedIOException e) {
+            LOGGER.warn("Session state could not be removed from profile template {}: {}", template, e.toString());
+        }
+    }
+
+    /**
+     * Prefer the RAM-backed {@code /dev/shm}, unless it is missing, read-only or too small to hold profiles.
+     */
+    private static Path profileRoot() {
+        Path sharedMemory = Path.of("/dev/shm");
+        if (Files.isDirectory(sharedMemory) && Files.isWritable(sharedMemory)) {
+            try {
+                if (Files.getFileStore(sharedMemory).getUsableSpace() >= MIN_SHARED_MEMORY_FREE_BYTES) {
+                    return sharedMemory;
+                }
+                LOGGER.debug("{} has less than {} MB free, keeping profiles in the temporary directory.",
+                        sharedMemory, MIN_SHARED_MEMORY_FREE_BYTES / (1024 * 1024));
+            } catch (IOException e) {
+                LOGGER.debug("Free space of {} could not be read: {}", sharedMemory, e.toString());
+            }
+        }
+        return Path.of(System.getProperty("java.io.tmpdir"));
+    }
+
+    /**
+     * Copy options and point the copy at the given user data directory.
+     *
+     * @param options     The options; not modified.
+     * @param userDataDir The user data directory.
+     * @return The copy.
+     */
+    static ChromiumOptions<?> withUserDataDir(ChromiumOptions<?> options, Path userDataDir) {
+        ChromiumOptions<?> copy;
+        if (options instanceof ChromeOptions chromeOptions) {
+            copy = new ChromeOptions().merge(chromeOptions);
+        } else if (options instanceof EdgeOptions edgeOptions) {
+            copy = new EdgeOptions().merge(edgeOptions);
+        } else {
+            throw new InvalidBrowserOptionsException("Profile templates require ChromeOptions or EdgeOptions.");
+        }
+        copy.addArguments(USER_DATA_DIR_ARGUMENT + userDataDir);
+        return copy;
+    }
+}
@@ -0,0 +1,78 @@
+package org.autoutils.driver;
+
+import java.time.Duration;
+
+/**
+ * Policy deciding when a long-lived session should be replaced by a fresh one, set through
+ * {@link DriverSessionManager#setRecyclingPolicy(RecyclingPolicy)}. A limit of 0 (or a null CPU time) is no limit.
+ *
+ * <p>Example of usage:</p>
+ * <pre>{@code
+ * DriverSessionManager.setRecyclingPolicy(RecyclingPolicy.NONE
+ *         .withMaxUses(50)
+ *         .withMaxRssBytes(2L * 1024 * 1024 * 1024)
+ *         .withMaxCpuTime(Duration.ofMinutes(10)));
+ * }</pre>
+ *
+ * @param maxUses     The number of times a session may be handed to a thread before it is recycled.
+ * @param maxRssBytes The resident memory of the session's process tree above which it is recycled.
+ * @param maxCpuTime  The CPU time of the session's process tree above which it is recycled.
+ */
+public record RecyclingPolicy(int maxUses, long maxRssBytes, Duration maxCpuTime) {
+
+    /**
+     * A policy that never recycles sessions.
+     */
+    public static final RecyclingPolicy NONE = new RecyclingPolicy(0, 0, null);
+
+    /**
+     * @param maxUses The number of uses after which a session is recycled, 0 for no limit.
+     * @return A copy of this policy with the new limit.
+     */
+    public RecyclingPolicy withMaxUses(int maxUses) {
+        return new RecyclingPolicy(maxUses, maxRssBytes, maxCpuTime);
+    }
+
+    /**
+     * @param maxRssBytes The resident memory budget in bytes, 0 for no limit.
+     * @return A copy of this policy with the new limit.
+     */
+    public RecyclingPolicy withMaxRssBytes(long maxRssBytes) {
+        return new RecyclingPolicy(maxUses, maxRssBytes, maxCpuTime);
+    }
+
+    /**
+     * @param maxCpuTime The CPU time budget, null for no limit.
+     * @return A copy of this policy with the new limit.
+     */
+    public RecyclingPolicy withMaxCpuTime(Duration maxCpuTime) {
+        return new RecyclingPolicy(maxUses, maxRssBytes, maxCpuTime);
+    }
+
+    /**
+     * @return true if the policy has a memory or CPU budget, so the session processes must be sampled.
+     */
+    boolean needsSampling() {
+        return maxRssBytes > 0 || maxCpuTime != null;
+    }
+
+    /**
+     * Check a session against the policy.
+     *
+     * @param useCount The number of times the session has been used.
+     * @param usage    The latest resource usage of the session, or null if unknown.
+     * @return The reason the session should be recycled, or null if it may be kept.
+     */
+    String recycleReason(int useCount, ProcessResourceUsage usage) {
+        if (maxUses > 0 && useCount >= maxUses) {
+            return "used " + useCount + " times";
+        }
+        if (usage != null && maxRssBytes > 0 && usage.rssBytes() > maxRssBytes) {
+            return "RSS " + usage.rssBytes() / (1024 * 1024) + " MB exceeds budget";
+        }
+        if (usage != null && maxCpuTime != null && usage.cpuTime().compareTo(maxCpuTime) > 0) {
+            return "CPU time " + usage.cpuTime().toSeconds() + " s exceeds budget";
+        }
+        return null;
+    }
+}
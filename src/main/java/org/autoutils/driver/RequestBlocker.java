@@ -0,0 +1,98 @@
+package org.autoutils.driver;
+
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.devtools.Command;
+import org.openqa.selenium.devtools.DevTools;
+import org.openqa.selenium.devtools.Event;
+import org.openqa.selenium.devtools.HasDevTools;
+import org.openqa.selenium.json.Json;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * RequestBlocker installs a {@link RequestBlocklist} on a browser session through DevTools network interception
+ * ({@code Fetch} domain), so blocked requests are failed inside the browser without changes to the application
+ * under test. Interception requires a DevTools connection, i.e. Chrome or Edge; other browsers are left unchanged.
+ */
+public final class RequestBlocker {
+    private static final Logger LOGGER = LoggerFactory.getLogger(RequestBlocker.class);
+
+    private static final Event<Map<String, Object>> REQUEST_PAUSED = new Event<>("Fetch.requestPaused", input -> input.read(Json.MAP_TYPE));
+
+    private RequestBlocker() {
+        // Private constructor to prevent instantiation
+    }
+
+    /**
+     * Install the blocklist on the given session. The returned statistics are also available from
+     * {@link DriverSession#getRequestBlockingStats()} if the driver is registered with {@link DriverSessionManager}.
+     *
+     * @param driver    The driver of the session.
+     * @param blocklist The requests to block.
+     * @return The blocking statistics of the session, or null if the browser does not support interception.
+     */
+    public static RequestBlockingStats install(WebDriver driver, RequestBlocklist blocklist) {
+        WebDriver target = LazyWebDriver.unwrapIfStarted(driver);
+        if (!(target instanceof HasDevTools hasDevTools) || hasDevTools.maybeGetDevTools().isEmpty()) {
+            LOGGER.warn("Request blocking requires DevTools, which {} does not provide; no requests are blocked.", target.getClass().getSimpleName());
+            return null;
+        }
+        RequestBlockingStats stats = new RequestBlockingStats();
+        if (blocklist.isEmpty()) {
+            return stats;
+        }
+        try {
+            DevTools devTools = hasDevTools.getDevTools();
+            devTools.createSessionIfThereIsNotOne();
+            devTools.addListener(REQUEST_PAUSED, event -> failRequest(devTools, event, stats));
+            devTools.send(new Command<Void>("Fetch.enable", Map.of("patterns", requestPatterns(blocklist))));
+        } catch (WebDriverException e) {
+            LOGGER.warn("Request blocking could not be installed: {}", e.getMessage());
+            return null;
+        }
+        DriverSessionManager.getSession(driver).ifPresent(session -> session.setRequestBlockingStats(stats));
+        LOGGER.debug("Request blocking installed: {} URL patterns, resource types {}.", blocklist.getUrlPatterns().size(), blocklist.getResourceTypes());
+        return stats;
+    }
+
+    private static List<Map<String, Object>> requestPatterns(RequestBlocklist blocklist) {
+        List<Map<String, Object>> patterns = new ArrayList<>();
+        for (String urlPattern : blocklist.getUrlPatterns()) {
+            patterns.add(Map.of("urlPattern", urlPattern, "requestStage", "Request"));
+        }
+        for (RequestBlocklist.ResourceType resourceType : blocklist.getResourceTypes()) {
+            patterns.add(Map.of("urlPattern", "*", "resourceType", resourceType.getDevToolsName(), "requestStage", "Response"));
+        }
+        return patterns;
+    }
+
+    private static void failRequest(DevTools devTools, Map<String, Object> event, RequestBlockingStats stats) {
+        try {
+            devTools.send(new Command<Void>("Fetch.failRequest", Map.of("requestId", event.get("requestId"), "errorReason", "BlockedByClient")));
+            stats.recordBlocked(contentLength(event));
+        } catch (WebDriverException e) {
+            // The request may already be gone, e.g. after a navigation
+            LOGGER.debug("Paused request could not be failed: {}", e.getMessage());
+        }
+    }
+
+    private static long contentLength(Map<String, Object> event) {
+        if (event.get("responseHeaders") instanceof List<?> headers) {
+            for (Object header : headers) {
+                if (header instanceof Map<?, ?> entry && "content-length".equalsIgnoreCase(String.valueOf(entry.get("name")))) {
+                    try {
+                        return Long.parseLong(String.valueOf(entry.get("value")).trim());
+                    } catch (NumberFormatException e) {
+                        return 0;
+                    }
+                }
+            }
+        }
+        return 0;
+    }
+}
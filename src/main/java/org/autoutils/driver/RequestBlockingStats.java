@@ -0,0 +1,40 @@
+package org.autoutils.driver;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * RequestBlockingStats counts the requests a session has blocked through its {@link RequestBlocklist}.
+ * Counters are updated from the DevTools connection and can be read at any time.
+ */
+public final class RequestBlockingStats {
+
+    private final LongAdder blockedRequestCount = new LongAdder();
+    private final LongAdder bytesSaved = new LongAdder();
+
+    /**
+     * @return The number of requests blocked so far.
+     */
+    public long getBlockedRequestCount() {
+        return blockedRequestCount.sum();
+    }
+
+    /**
+     * Bytes saved are counted from the declared content length of responses blocked by resource type. Requests
+     * blocked by URL pattern are never sent, so their size is unknown and not included.
+     *
+     * @return The number of response body bytes not downloaded so far.
+     */
+    public long getBytesSaved() {
+        return bytesSaved.sum();
+    }
+
+    void recordBlocked(long bytes) {
+        blockedRequestCount.increment();
+        bytesSaved.add(bytes);
+    }
+
+    @Override
+    public String toString() {
+        return "RequestBlockingStats{blockedRequests=" + getBlockedRequestCount() + ", bytesSaved=" + getBytesSaved() + "}";
+    }
+}
@@ -0,0 +1,103 @@
+package org.autoutils.driver;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * RequestBlocklist lists the network requests a browser session should not perform, by URL pattern and by resource
+ * type. It is installed on a session with {@link RequestBlocker#install(org.openqa.selenium.WebDriver, RequestBlocklist)}
+ * or on every new web session with {@link WebDriverManager#setRequestBlocklist(RequestBlocklist)}.
+ *
+ * <p>URL patterns use the DevTools wildcard syntax, where {@code *} matches any sequence of characters and
+ * {@code ?} a single character. Requests matching a URL pattern are failed before they are sent, so no connection
+ * is made at all. Requests of a blocked resource type are failed as soon as their response headers arrive, before
+ * the body is downloaded, which lets the saved bytes be counted from the declared content length.</p>
+ *
+ * <p>Example of usage:</p>
+ * <pre>{@code
+ * RequestBlocklist blocklist = new RequestBlocklist()
+ *         .blockUrls("*google-analytics.com*", "*doubleclick.net*")
+ *         .blockResourceTypes(RequestBlocklist.ResourceType.IMAGE, RequestBlocklist.ResourceType.FONT);
+ * WebDriverManager.getInstance().setRequestBlocklist(blocklist);
+ * }</pre>
+ */
+public class RequestBlocklist {
+
+    /**
+     * Resource types that can be blocked, named after the DevTools Network.ResourceType values.
+     */
+    public enum ResourceType {
+        IMAGE("Image"),
+        MEDIA("Media"),
+        FONT("Font"),
+        STYLESHEET("Stylesheet"),
+        SCRIPT("Script"),
+        XHR("XHR"),
+        FETCH("Fetch"),
+        WEBSOCKET("WebSocket"),
+        PING("Ping"),
+        OTHER("Other");
+
+        private final String devToolsName;
+
+        ResourceType(String devToolsName) {
+            this.devToolsName = devToolsName;
+        }
+
+        /**
+         * @return The name of the resource type in the DevTools protocol.
+         */
+        public String getDevToolsName() {
+            return devToolsName;
+        }
+    }
+
+    private final List<String> urlPatterns = new ArrayList<>();
+    private final Set<ResourceType> resourceTypes = EnumSet.noneOf(ResourceType.class);
+
+    /**
+     * Block requests whose URL matches any of the given patterns.
+     *
+     * @param patterns URL patterns, e.g. {@code "*google-analytics.com*"}.
+     * @return This blocklist, for chaining.
+     */
+    public RequestBlocklist blockUrls(String... patterns) {
+        Collections.addAll(urlPatterns, patterns);
+        return this;
+    }
+
+    /**
+     * Block requests of the given resource types.
+     *
+     * @param types The resource types to block.
+     * @return This blocklist, for chaining.
+     */
+    public RequestBlocklist blockResourceTypes(ResourceType... types) {
+        Collections.addAll(resourceTypes, types);
+        return this;
+    }
+
+    /**
+     * @return The blocked URL patterns.
+     */
+    public List<String> getUrlPatterns() {
+        return List.copyOf(urlPatterns);
+    }
+
+    /**
+     * @return The blocked resource types.
+     */
+    public Set<ResourceType> getResourceTypes() {
+        return Collections.unmodifiableSet(EnumSet.copyOf(resourceTypes));
+    }
+
+    /**
+     * @return true if nothing is blocked.
+     */
+    public boolean isEmpty() {
+        return urlPatterns.isEmpty() && resourceTypes.isEmpty();
+    }
+}
@@ -0,0 +1,330 @@
+package org.autoutils.driver;
+
+import io.appium.java_client.AppiumDriver;
+import org.autoutils.driver.exception.SessionCreationTimeoutException;
+import org.openqa.selenium.WebDriver;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.net.MalformedURLException;
+import java.net.URI;
+import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * SessionAdmissionController sits in front of the driver factories and admits new sessions only while the machine
+ * has room for them, so a burst of workers starting sessions at once queues instead of thrashing the host.
+ *
+ * <p>A session request is admitted when all of the following hold:</p>
+ * <ul>
+ *     <li>fewer than the maximum number of sessions are being created (default: the number of cores),</li>
+ *     <li>fewer than the maximum number of sessions are live or being created (default: twice the number of
+ *     cores),</li>
+ *     <li>the available memory covers the memory reserved per session (default 512 MB), unless no session is live
+ *     at all.</li>
+ * </ul>
+ *
+ * <p>Appium sessions are admitted like browsers, as their Appium server usually runs on this machine. Sessions on an
+ * Appium server listed as remote, e.g. a device cloud, only count towards the creation limit: they are not counted
+ * as live and do not wait for memory.</p>
+ *
+ * <p>Requests are admitted strictly in arrival order and fail with {@link SessionCreationTimeoutException} if they
+ * are not admitted within the admission timeout (default 5 minutes). The limits can be set through the properties
+ * {@code autoutils.admission.max.creations}, {@code autoutils.admission.max.sessions},
+ * {@code autoutils.admission.session.memory.mb} and {@code autoutils.admission.timeout}, or the setters below;
+ * {@code autoutils.admission.enabled=false} admits every request immediately. Remote Appium servers are listed,
+ * comma-separated, in {@code autoutils.admission.remote.servers}.</p>
+ */
+public final class SessionAdmissionController {
+    private static final Logger LOGGER = LoggerFactory.getLogger(SessionAdmissionController.class);
+
+    private static final int CORES = Runtime.getRuntime().availableProcessors();
+    private static final long BYTES_PER_MB = 1024L * 1024;
+    private static final long MEMORY_RECHECK_NANOS = TimeUnit.MILLISECONDS.toNanos(250);
+    private static final Path MEMINFO = Path.of("/proc/meminfo");
+
+    private static final ReentrantLock lock = new ReentrantLock();
+    private static final Condition capacityChanged = lock.newCondition();
+    private static final Deque<Thread> queue = new ArrayDeque<>();  // Waiting requests, in arrival order
+
+    private static volatile boolean enabled = ConfigManager.getBoolean("autoutils.admission.enabled", true);
+    private static volatile int maxConcurrentCreations = ConfigManager.getInt("autoutils.admission.max.creations", CORES);
+    private static volatile int maxLiveSessions = ConfigManager.getInt("autoutils.admission.max.sessions", 2 * CORES);
+    private static volatile long sessionMemoryBytes = ConfigManager.getLong("autoutils.admission.session.memory.mb", 512) * BYTES_PER_MB;
+    private static volatile Duration admissionTimeout = ConfigManager.getDuration("autoutils.admission.timeout", Duration.ofMinutes(5));
+    // host:port of the Appium servers running elsewhere, whose sessions do not use this machine's capacity
+    private static volatile Set<String> remoteServers = parseServers(ConfigManager.getProperty("autoutils.admission.remote.servers"));
+
+    // Guarded by lock
+    private static int creatingCount;
+    private static int creatingOnRemoteServersCount;
+    private static long admittedCount;
+    private static long timedOutCount;
+    private static long totalWaitNanos;
+    private static long maxWaitNanos;
+
+    private SessionAdmissionController() {
+        // Private constructor to prevent instantiation
+    }
+
+    /**
+     * Wait until a new local browser session may be created. The returned admission must be closed once the session
+     * has been registered with {@link DriverSessionManager} or its creation has failed, so it is always counted as
+     * either being created or live.
+     *
+     * @param platform The platform of the session, for logging.
+     * @return The admission.
+     * @throws SessionCreationTimeoutException if the request is not admitted within the admission timeout.
+     */
+    static Admission admit(String platform) {
+        return admit(platform, false);
+    }
+
+    /**
+     * Wait until a new Appium session may be created on the given server. Sessions on a remote server only wait for
+     * a creation slot. The returned admission must be closed as for {@link #admit(String)}.
+     *
+     * @param platform  The platform of the session, for logging.
+     * @param serverUrl The URL of the Appium server.
+     * @return The admission.
+     * @throws SessionCreationTimeoutException if the request is not admitted within the admission timeout.
+     */
+    static Admission admit(String platform, URL serverUrl) {
+        return admit(platform, isRemoteServer(serverUrl));
+    }
+
+    private static Admission admit(String platform, boolean onRemoteServer) {
+        if (!enabled) {
+            return Admission.UNCOUNTED;
+        }
+        long startNanos = System.nanoTime();
+        long deadlineNanos = startNanos + admissionTimeout.toNanos();
+        Thread requester = Thread.currentThread();
+        lock.lock();
+        try {
+            queue.addLast(requester);
+            try {
+                while (queue.peekFirst() != requester || !hasCapacity(onRemoteServer)) {
+                    long remainingNanos = deadlineNanos - System.nanoTime();
+                    if (remainingNanos <= 0) {
+                        timedOutCount++;
+                        throw new SessionCreationTimeoutException("No capacity for a new " + platform + " session within "
+                                + admissionTimeout.toMillis() + " ms (" + queue.size() + " requests queued).");
+                    }
+                    // Memory is not signalled when it frees up, so recheck it periodically
+                    capacityChanged.awaitNanos(Math.min(remainingNanos, MEMORY_RECHECK_NANOS));
+                }
+            } finally {
+                queue.remove(requester);
+                capacityChanged.signalAll();  // The next request may now be at the head of the queue
+            }
+            long waitNanos = System.nanoTime() - startNanos;
+            creatingCount++;
+            if (onRemoteServer) {
+                creatingOnRemoteServersCount++;
+            }
+            admittedCount++;
+            totalWaitNanos += waitNanos;
+            maxWaitNanos = Math.max(maxWaitNanos, waitNanos);
+            if (waitNanos > MEMORY_RECHECK_NANOS) {
+                LOGGER.debug("{} session admitted after {} ms in the queue.", platform, TimeUnit.NANOSECONDS.toMillis(waitNanos));
+            }
+            return new Admission(onRemoteServer);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SessionCreationTimeoutException("Waiting for session admission was interrupted.");
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Wake up queued requests after a session has ended.
+     */
+    static void capacityReleased() {
+        if (lock.tryLock()) {  // Queued requests recheck periodically anyway, never block a quit on this
+            try {
+                capacityChanged.signalAll();
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
+    /**
+     * Get a snapshot of the admission queue and its wait times.
+     *
+     * @return The current metrics.
+     */
+    public static AdmissionMetrics getMetrics() {
+        lock.lock();
+        try {
+            return new AdmissionMetrics(queue.size(), creatingCount, admittedCount, timedOutCount,
+                    Duration.ofNanos(totalWaitNanos), Duration.ofNanos(maxWaitNanos));
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Enable or disable admission control.
+     *
+     * @param enabled false to admit every request immediately.
+     */
+    public static void setEnabled(boolean enabled) {
+        SessionAdmissionController.enabled = enabled;
+    }
+
+    /**
+     * @param maxConcurrentCreations The maximum number of sessions created at the same time.
+     */
+    public static void setMaxConcurrentCreations(int maxConcurrentCreations) {
+        SessionAdmissionController.maxConcurrentCreations = maxConcurrentCreations;
+        capacityReleased();
+    }
+
+    /**
+     * @param maxLiveSessions The maximum number of sessions live or being created at the same time.
+     */
+    public static void setMaxLiveSessions(int maxLiveSessions) {
+        SessionAdmissionController.maxLiveSessions = maxLiveSessions;
+        capacityReleased();
+    }
+
+    /**
+     * @param sessionMemoryMb The available memory, in MB, required to admit another session.
+     */
+    public static void setSessionMemoryMb(long sessionMemoryMb) {
+        SessionAdmissionController.sessionMemoryBytes = sessionMemoryMb * BYTES_PER_MB;
+        capacityReleased();
+    }
+
+    /**
+     * @param admissionTimeout The maximum time a request waits in the queue.
+     */
+    public static void setAdmissionTimeout(Duration admissionTimeout) {
+        SessionAdmissionController.admissionTimeout = admissionTimeout;
+    }
+
+    /**
+     * @param remoteServerUrls The Appium servers running on other machines, e.g. a device cloud.
+     */
+    public static void setRemoteServers(Collection<URL> remoteServerUrls) {
+        remoteServers = remoteServerUrls.stream().map(SessionAdmissionController::serverKey).collect(Collectors.toUnmodifiableSet());
+        capacityReleased();
+    }
+
+    private static boolean hasCapacity(boolean onRemoteServer) {
+        if (creatingCount >= maxConcurrentCreations) {
+            return false;
+        }
+        if (onRemoteServer) {
+            return true;  // Runs on another machine, only its creation is throttled
+        }
+        long liveCount = DriverSessionManager.countActiveSessions(session -> !isOnRemoteServer(session.getDriver()))
+                + creatingCount - creatingOnRemoteServersCount;
+        return liveCount < maxLiveSessions
+                && (liveCount == 0 || availableMemoryBytes() >= sessionMemoryBytes);
+    }
+
+    private static boolean isOnRemoteServer(WebDriver driver) {
+        return !remoteServers.isEmpty() && driver instanceof AppiumDriver appiumDriver && isRemoteServer(appiumDriver.getRemoteAddress());
+    }
+
+    private static boolean isRemoteServer(URL serverUrl) {
+        return serverUrl != null && remoteServers.contains(serverKey(serverUrl));
+    }
+
+    private static String serverKey(URL serverUrl) {
+        int port = serverUrl.getPort() == -1 ? serverUrl.getDefaultPort() : serverUrl.getPort();
+        return serverUrl.getHost().toLowerCase(Locale.ROOT) + ":" + port;
+    }
+
+    private static Set<String> parseServers(String serverUrls) {
+        if (serverUrls == null || serverUrls.isBlank()) {
+            return Set.of();
+        }
+        Set<String> servers = new HashSet<>();
+        for (String serverUrl : serverUrls.split(",")) {
+            try {
+                servers.add(serverKey(URI.create(serverUrl.trim()).toURL()));
+            } catch (IllegalArgumentException | MalformedURLException e) {
+                LOGGER.warn("Ignoring invalid remote Appium server URL '{}': {}", serverUrl.trim(), e.toString());
+            }
+        }
+        return Set.copyOf(servers);
+    }
+
+    /**
+     * Read the memory available for new processes: MemAvailable on Linux, which counts reclaimable caches,
+     * otherwise the free physical memory reported by the JVM.
+     */
+    private static long availableMemoryBytes() {
+        try (Stream<String> lines = Files.lines(MEMINFO)) {
+            return lines.filter(line -> line.startsWith("MemAvailable:"))
+                    .findFirst()
+                    .map(line -> Long.parseLong(line.substring("MemAvailable:".length()).replace("kB", "").trim()) * 1024)
+                    .orElseGet(SessionAdmissionController::freePhysicalMemoryBytes);
+        } catch (IOException | NumberFormatException e) {
+            return freePhysicalMemoryBytes();
+        }
+    }
+
+    private static long freePhysicalMemoryBytes() {
+        if (ManagementFactory.getOperatingSystemMXBean() instanceof com.sun.management.OperatingSystemMXBean osBean) {
+            return osBean.getFreeMemorySize();
+        }
+        return Long.MAX_VALUE;  // Unknown, do not block on memory
+    }
+
+    /**
+     * An admitted session creation; closing it frees the creation slot.
+     */
+    static class Admission implements AutoCloseable {
+        private static final Admission UNCOUNTED = new Admission(false) {
+            @Override
+            public void close() {
+                // Admission control disabled, nothing to release
+            }
+        };
+
+        private final boolean onRemoteServer;
+        private boolean closed;
+
+        private Admission(boolean onRemoteServer) {
+            this.onRemoteServer = onRemoteServer;
+        }
+
+        @Override
+        public void close() {
+            lock.lock();
+            try {
+                if (!closed) {
+                    closed = true;
+                    creatingCount--;
+                    if (onRemoteServer) {
+                        creatingOnRemoteServersCount--;
+                    }
+                    capacityChanged.signalAll();
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+}
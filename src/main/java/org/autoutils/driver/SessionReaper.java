@@ -0,0 +1,121 @@
+package org.autoutils.driver;
+
+import org.openqa.selenium.WebDriver;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * SessionReaper periodically scans the sessions registered with {@link DriverSessionManager} and quits the ones
+ * that were leaked: sessions whose owner thread has terminated, and sessions that have been idle for longer than
+ * the configured threshold. Each reaped session is logged and reported together with the call site that created it.
+ *
+ * <p>Sessions held idle by a {@link WebDriverPool} have no owner thread and are never reaped.</p>
+ *
+ * <p>Example of usage:</p>
+ * <pre>{@code
+ * SessionReaper reaper = SessionReaper.start(Duration.ofMinutes(10), Duration.ofSeconds(30));
+ * // ... run tests ...
+ * reaper.stop();
+ * reaper.getLeakReports().forEach(report -> System.out.println(report.callSite()));
+ * }</pre>
+ */
+public class SessionReaper {
+    private static final Logger LOGGER = LoggerFactory.getLogger(SessionReaper.class);
+
+    private final Duration idleThreshold;
+    private final ScheduledExecutorService scheduler;
+    private final List<LeakReport> leakReports = new CopyOnWriteArrayList<>();
+
+    private SessionReaper(Duration idleThreshold) {
+        this.idleThreshold = idleThreshold;
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(Thread.ofPlatform().name("session-reaper").daemon().factory());
+    }
+
+    /**
+     * Start a reaper that scans the active sessions at the given interval.
+     * Use is recorded on every command the session receives, and whenever its driver is obtained through a manager,
+     * so a session is idle only once nothing has driven it for the whole threshold. Reaped sessions are quit in the
+     * background through {@link DriverSessionManager}'s bounded asynchronous quit, with its per-quit deadline.
+     *
+     * @param idleThreshold The time a session may stay unused before it is considered leaked.
+     * @param scanInterval  The interval between two scans.
+     * @return The running reaper.
+     */
+    public static SessionReaper start(Duration idleThreshold, Duration scanInterval) {
+        SessionReaper reaper = new SessionReaper(idleThreshold);
+        reaper.scheduler.scheduleWithFixedDelay(reaper::reapSafely, scanInterval.toMillis(), scanInterval.toMillis(), TimeUnit.MILLISECONDS);
+        LOGGER.debug("Session reaper started with idle threshold {} ms.", idleThreshold.toMillis());
+        return reaper;
+    }
+
+    /**
+     * Stop scanning. Sessions already being quit are not interrupted.
+     */
+    public void stop() {
+        scheduler.shutdownNow();
+        LOGGER.debug("Session reaper stopped after reaping {} sessions.", leakReports.size());
+    }
+
+    /**
+     * Run one scan immediately and quit every leaked session found.
+     *
+     * @return The number of sessions reaped by this scan.
+     */
+    public int reapNow() {
+        ThreadScopedDriver.purgeTerminatedThreads();
+        Instant now = Instant.now();
+        int reaped = 0;
+        for (DriverSession session : DriverSessionManager.getSessions()) {
+            Thread owner = session.getOwnerThread();
+            if (owner == null) {
+                continue;  // Held by a pool, not leaked
+            }
+            if (!owner.isAlive()) {
+                reaped += reap(session, owner, LeakReport.Reason.OWNER_TERMINATED, now);
+            } else if (session.getLastCommandAt().plus(idleThreshold).isBefore(now)) {
+                reaped += reap(session, owner, LeakReport.Reason.IDLE, now);
+            }
+        }
+        return reaped;
+    }
+
+    /**
+     * Get the reports of all sessions reaped so far.
+     *
+     * @return An unmodifiable snapshot of the leak reports.
+     */
+    public List<LeakReport> getLeakReports() {
+        return List.copyOf(leakReports);
+    }
+
+    private int reap(DriverSession session, Thread owner, LeakReport.Reason reason, Instant now) {
+        WebDriver driver = session.getDriver();
+        if (!DriverSessionManager.deregisterDriver(driver)) {
+            return 0;  // Quit concurrently by its owner
+        }
+        ThreadScopedDriver.releaseEverywhere(driver);
+        leakReports.add(new LeakReport(session.getSessionId(), session.getPlatform(), session.getCallSite(), owner.getName(),
+                reason, session.getCreatedAt(), session.getLastCommandAt(), now));
+        LOGGER.warn("Reaping leaked {} session {} ({}): owned by thread '{}', created at {}.",
+                session.getPlatform(), session.getSessionId(), reason, owner.getName(), session.getCallSite());
+        DriverSessionManager.quitAsync(driver);
+        return 1;
+    }
+
+    private void reapSafely() {
+        try {
+            reapNow();
+        } catch (RuntimeException e) {
+            // Keep the scheduled scan alive
+            LOGGER.warn("Session reaper scan failed: {}", e.toString());
+        }
+    }
+}
@@ -0,0 +1,231 @@
+package org.autoutils.driver;
+
+import io.appium.java_client.MobileCommand;
+import io.appium.java_client.remote.AppiumCommandExecutor;
+import io.appium.java_client.remote.AppiumW3CHttpCommandCodec;
+import org.openqa.selenium.Capabilities;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.json.Json;
+import org.openqa.selenium.remote.codec.w3c.W3CHttpResponseCodec;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.MalformedURLException;
+import java.net.URI;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Collection;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Properties;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * SessionStateFile persists the id of a remote session together with the server URL and capabilities it was
+ * created with, so that a later JVM can reattach to the still-running session instead of creating a new one.
+ *
+ * <p>Sessions are kept in one file per platform and device, named after the {@code udid} capability, or the
+ * {@code deviceName} capability when no udid is set, so parallel sessions on different devices never overwrite each
+ * other's state. A persisted session is handed out to at most one thread of this JVM.</p>
+ */
+final class SessionStateFile {
+    private static final Logger LOGGER = LoggerFactory.getLogger(SessionStateFile.class);
+
+    private static final String SESSION_ID = "session.id";
+    private static final String SERVER_URL = "server.url";
+    private static final String CAPABILITIES_HASH = "capabilities.hash";
+    private static final String FILE_SUFFIX = "-session.properties";
+
+    // Session ids handed out by readSessionId, so two threads never reattach to the same session
+    private static final Set<String> claimedSessionIds = ConcurrentHashMap.newKeySet();
+
+    private final Path directory;
+    private final String platform;
+
+    /**
+     * @param directory The directory holding the state files.
+     * @param platform  The platform of the sessions, used as the file name prefix.
+     */
+    SessionStateFile(Path directory, String platform) {
+        this.directory = directory;
+        this.platform = platform;
+    }
+
+    /**
+     * Read the persisted session id of the capabilities' device, provided it was created against the same server with
+     * the same capabilities and no other thread of this JVM has claimed it yet.
+     *
+     * @param serverUrl    The server URL the session must belong to.
+     * @param capabilities The capabilities the session must have been created with.
+     * @return The session id, or an empty Optional if there is no matching unclaimed persisted session.
+     */
+    Optional<String> readSessionId(URL serverUrl, Capabilities capabilities) {
+        Path path = pathFor(capabilities);
+        if (!Files.isRegularFile(path)) {
+            return Optional.empty();
+        }
+        Properties state = load(path);
+        if (state == null || !serverUrl.toString().equals(state.getProperty(SERVER_URL))
+                || !capabilitiesHash(capabilities).equals(state.getProperty(CAPABILITIES_HASH))) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(state.getProperty(SESSION_ID)).filter(claimedSessionIds::add);
+    }
+
+    /**
+     * Persist a session so it can be reattached to later.
+     *
+     * @param sessionId    The id of the session.
+     * @param serverUrl    The server URL the session belongs to.
+     * @param capabilities The capabilities the session was created with.
+     */
+    void write(String sessionId, URL serverUrl, Capabilities capabilities) {
+        Path path = pathFor(capabilities);
+        Properties state = new Properties();
+        state.setProperty(SESSION_ID, sessionId);
+        state.setProperty(SERVER_URL, serverUrl.toString());
+        state.setProperty(CAPABILITIES_HASH, capabilitiesHash(capabilities));
+        claimedSessionIds.add(sessionId);
+        try {
+            Files.createDirectories(directory);
+            try (OutputStream stateFile = Files.newOutputStream(path)) {
+                state.store(stateFile, "Reattachable session state");
+            }
+        } catch (IOException e) {
+            LOGGER.warn("Session state could not be written to {}: {}", path, e.toString());
+            return;
+        }
+        // The session outlives this JVM on purpose, so a later sweep must not stop its server
+        OrphanedProcessSweeper.retainServerProcess(serverUrl, path);
+    }
+
+    /**
+     * Forget a persisted session, e.g. once it has been quit.
+     *
+     * @param sessionId The id of the session.
+     */
+    void delete(String sessionId) {
+        claimedSessionIds.remove(sessionId);
+        if (!Files.isDirectory(directory)) {
+            return;
+        }
+        try (DirectoryStream<Path> stateFiles = Files.newDirectoryStream(directory, platform + "-*" + FILE_SUFFIX)) {
+            for (Path path : stateFiles) {
+                Properties state = load(path);
+                if (state != null && sessionId.equals(state.getProperty(SESSION_ID))) {
+                    Files.deleteIfExists(path);
+                }
+            }
+        } catch (IOException e) {
+            LOGGER.debug("Session state of {} could not be deleted from {}: {}", sessionId, directory, e.toString());
+        }
+    }
+
+    /**
+     * Build the address of an existing session on a server, as expected by the Appium reattach constructors.
+     *
+     * @param serverUrl The server URL.
+     * @param sessionId The id of the session.
+     * @return The session address, e.g. {@code http://127.0.0.1:4723/session/<id>}.
+     */
+    static URL sessionAddress(URL serverUrl, String sessionId) {
+        try {
+            return URI.create(serverUrl.toString().replaceAll("/+$", "") + "/session/" + sessionId).toURL();
+        } catch (MalformedURLException e) {
+            throw new IllegalArgumentException("Invalid session address for server " + serverUrl, e);
+        }
+    }
+
+    /**
+     * Create the command executor of a reattached session. Like a fresh session, it sends its commands through the
+     * shared client of {@link HttpClientProvider}, so they are recorded as session activity.
+     *
+     * @param serverUrl The URL of the Appium server.
+     * @return The executor, set up for the W3C protocol the session was created with.
+     */
+    static AppiumCommandExecutor commandExecutor(URL serverUrl) {
+        AppiumCommandExecutor executor = new AppiumCommandExecutor(MobileCommand.commandRepository, serverUrl,
+                HttpClientProvider.getClientFactory());
+        executor.setCommandCodec(new AppiumW3CHttpCommandCodec());  // Set on session creation, which is skipped here
+        executor.setResponseCodec(new W3CHttpResponseCodec());
+        return executor;
+    }
+
+    /**
+     * Probe a reattached session with a cheap session-bound command.
+     *
+     * @param driver The reattached driver.
+     * @return true if the session still exists on the server, false otherwise.
+     */
+    static boolean isAlive(WebDriver driver) {
+        try {
+            driver.manage().timeouts().getImplicitWaitTimeout();
+            return true;
+        } catch (WebDriverException e) {
+            LOGGER.debug("Persisted session is no longer alive: {}", e.getMessage());
+            return false;
+        }
+    }
+
+    private Path pathFor(Capabilities capabilities) {
+        Object device = Optional.ofNullable(capability(capabilities, "udid")).orElse(capability(capabilities, "deviceName"));
+        String deviceKey = device == null ? "default" : device.toString().replaceAll("[^A-Za-z0-9._-]", "_");
+        return directory.resolve(platform + "-" + deviceKey + FILE_SUFFIX);
+    }
+
+    private static Object capability(Capabilities capabilities, String name) {
+        Object value = capabilities.getCapability("appium:" + name);
+        return value != null ? value : capabilities.getCapability(name);
+    }
+
+    private static Properties load(Path path) {
+        Properties state = new Properties();
+        try (InputStream stateFile = Files.newInputStream(path)) {
+            state.load(stateFile);
+            return state;
+        } catch (IOException e) {
+            LOGGER.debug("Session state file {} could not be read: {}", path, e.toString());
+            return null;
+        }
+    }
+
+    /**
+     * Hash the capabilities in a canonical form that is stable across JVMs: keys sorted and enums by name.
+     */
+    private static String capabilitiesHash(Capabilities capabilities) {
+        String canonical = new Json().toJson(canonical(capabilities.asMap()));
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(canonical.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);  // Every JVM is required to provide it
+        }
+    }
+
+    private static Object canonical(Object value) {
+        if (value instanceof Map<?, ?> map) {
+            Map<String, Object> sorted = new TreeMap<>();
+            map.forEach((key, entry) -> sorted.put(String.valueOf(key), canonical(entry)));
+            return sorted;
+        }
+        if (value instanceof Collection<?> collection) {
+            return collection.stream().map(SessionStateFile::canonical).toList();
+        }
+        if (value instanceof Enum<?> constant) {
+            return constant.name();
+        }
+        return value;
+    }
+}
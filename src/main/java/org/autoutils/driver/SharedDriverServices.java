@@ -0,0 +1,171 @@
+package org.autoutils.driver;
+
+import org.openqa.selenium.Capabilities;
+import org.openqa.selenium.SessionNotCreatedException;
+import org.openqa.selenium.chrome.ChromeDriverService;
+import org.openqa.selenium.chrome.ChromeOptions;
+import org.openqa.selenium.chromium.AddHasCdp;
+import org.openqa.selenium.chromium.ChromiumDriver;
+import org.openqa.selenium.chromium.ChromiumOptions;
+import org.openqa.selenium.edge.EdgeDriverService;
+import org.openqa.selenium.edge.EdgeOptions;
+import org.openqa.selenium.remote.CommandExecutor;
+import org.openqa.selenium.remote.CommandInfo;
+import org.openqa.selenium.remote.HttpCommandExecutor;
+import org.openqa.selenium.remote.http.HttpClient;
+import org.openqa.selenium.remote.http.HttpMethod;
+import org.openqa.selenium.remote.service.DriverFinder;
+import org.openqa.selenium.remote.service.DriverService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.net.URL;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * SharedDriverServices runs one long-lived driver service process (chromedriver, msedgedriver) per browser type and
+ * creates every session of that browser against it, instead of spawning a service per session.
+ *
+ * <p>Sessions created here quit through the shared service without stopping it. A service that has died is restarted
+ * when the next session is created, and every service is stopped at JVM shutdown. Firefox is not supported, as
+ * geckodriver serves a single session per process.</p>
+ *
+ * <p>The browser process of every session is located through the user data directory it reports, so sessions are
+ * sampled, recorded for the orphan sweep and force-killed on their own, without touching the shared service.</p>
+ */
+final class SharedDriverServices {
+    private static final Logger LOGGER = LoggerFactory.getLogger(SharedDriverServices.class);
+
+    private static final Map<String, SharedService> services = new ConcurrentHashMap<>();
+
+    static {
+        Runtime.getRuntime().addShutdownHook(Thread.ofPlatform().name("shared-driver-service-stop").unstarted(SharedDriverServices::stopAll));
+    }
+
+    private SharedDriverServices() {
+        // Prevent instantiation
+    }
+
+    /**
+     * Create a Chrome session on the shared chromedriver service.
+     *
+     * @param options The Chrome options.
+     * @return The new driver.
+     */
+    static ChromiumDriver createChromeDriver(ChromeOptions options) {
+        SharedService service = runningService("chrome", ChromeDriverService::createDefaultService, options);
+        return service.createDriver(new ChromeOptions().merge(options), ChromeOptions.CAPABILITY, "chrome", "/session/:sessionId/goog/cdp/execute");
+    }
+
+    /**
+     * Create an Edge session on the shared msedgedriver service.
+     *
+     * @param options The Edge options.
+     * @return The new driver.
+     */
+    static ChromiumDriver createEdgeDriver(EdgeOptions options) {
+        SharedService service = runningService("edge", EdgeDriverService::createDefaultService, options);
+        return service.createDriver(new EdgeOptions().merge(options), EdgeOptions.CAPABILITY, "msedge", "/session/:sessionId/ms/cdp/execute");
+    }
+
+    /**
+     * Check whether a local port belongs to a shared service, which must never be killed on behalf of one session.
+     *
+     * @param port The port a driver sends its commands to.
+     * @return true if a shared service listens on the port.
+     */
+    static boolean isSharedServicePort(int port) {
+        return services.values().stream().anyMatch(shared -> shared.service.getUrl().getPort() == port);
+    }
+
+    /**
+     * Stop every shared service. Sessions still running on them end as well.
+     */
+    static void stopAll() {
+        services.values().forEach(shared -> shared.service.stop());
+        services.clear();
+    }
+
+    /**
+     * Get the running service of a browser, starting one if there is none or it has died. The service is started
+     * outside the map, so its I/O never blocks other browsers; if two threads start one at the same time, the first
+     * published wins and the other is stopped.
+     */
+    private static SharedService runningService(String browser, Supplier<DriverService> serviceFactory, ChromiumOptions<?> options) {
+        SharedService current = services.get(browser);
+        if (current != null && current.service.isRunning()) {
+            return current;
+        }
+        if (current != null) {
+            LOGGER.warn("Shared {} driver service on {} has died, restarting it.", browser, current.service.getUrl());
+        }
+        SharedService started = startService(browser, serviceFactory.get(), options);
+        SharedService published = services.compute(browser, (key, existing) ->
+                existing != null && existing != current && existing.service.isRunning() ? existing : started);
+        if (published != started) {
+            started.service.stop();  // Lost the race to another thread's service
+        }
+        return published;
+    }
+
+    private static SharedService startService(String browser, DriverService service, ChromiumOptions<?> options) {
+        DriverFinder finder = new DriverFinder(service, options);
+        service.setExecutable(finder.getDriverPath());
+        try {
+            service.start();
+        } catch (IOException e) {
+            throw new SessionNotCreatedException("Shared " + browser + " driver service could not be started", e);
+        }
+        OrphanedProcessSweeper.recordServerProcess(service.getUrl());
+        LOGGER.info("Started shared {} driver service on {}.", browser, service.getUrl());
+        return new SharedService(service, finder.hasBrowserPath() ? finder.getBrowserPath() : null,
+                DriverProcesses.findDescendantListeningOn(service.getUrl().getPort()).orElse(null));
+    }
+
+    /**
+     * A running service, with the browser binary located when it was started and its process, if found.
+     */
+    private record SharedService(DriverService service, String browserPath, ProcessHandle process) {
+
+        /**
+         * @param options       A copy of the session options, completed with the browser binary.
+         * @param capabilityKey The capability holding the browser options.
+         * @param browserKey    The returned capability holding the browser's user data directory.
+         * @param cdpPath       The vendor path of the CDP command.
+         */
+        ChromiumDriver createDriver(ChromiumOptions<?> options, String capabilityKey, String browserKey, String cdpPath) {
+            if (browserPath != null) {
+                options.setBinary(browserPath);  // As the per-session driver constructors do
+            }
+            URL serviceUrl = service.getUrl();
+            HttpClient client = HttpClientProvider.getClientFactory().createClient(HttpClientProvider.getClientConfig().baseUrl(serviceUrl));
+            CommandExecutor executor = new HttpCommandExecutor(client,
+                    Map.of(AddHasCdp.EXECUTE_CDP, new CommandInfo(cdpPath, HttpMethod.POST)), serviceUrl);
+            ChromiumDriver driver = new SharedServiceDriver(executor, options, capabilityKey);
+            findBrowserProcess(driver.getCapabilities(), browserKey).ifPresent(browser -> DriverProcesses.recordBrowserProcess(driver, browser));
+            return driver;
+        }
+
+        private Optional<ProcessHandle> findBrowserProcess(Capabilities capabilities, String browserKey) {
+            if (process == null || !(capabilities.getCapability(browserKey) instanceof Map<?, ?> browserCapabilities)
+                    || browserCapabilities.get("userDataDir") == null) {
+                return Optional.empty();
+            }
+            return DriverProcesses.findBrowserProcess(process, String.valueOf(browserCapabilities.get("userDataDir")));
+        }
+    }
+
+    /**
+     * A Chromium session talking to a shared service through a plain HTTP executor, so quitting it ends the session
+     * without stopping the service.
+     */
+    private static final class SharedServiceDriver extends ChromiumDriver {
+        private SharedServiceDriver(CommandExecutor executor, ChromiumOptions<?> options, String capabilityKey) {
+            super(executor, options, capabilityKey);
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package org.autoutils.driver;
+
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * Summary of a {@link DriverSessionManager#quitAllDrivers()} run.
+ *
+ * @param driverCount     The number of drivers that were torn down.
+ * @param forcedKillCount The number of drivers that missed their deadline and had their process tree killed.
+ * @param abandonedCount  The number of drivers that missed their deadline and have no local process to kill
+ *                        (remote, Appium or shared-service sessions); their sessions may still be running.
+ * @param elapsed         The wall-clock time spent tearing down all drivers.
+ * @param failures        The failures that occurred, keyed by the description of the failing driver.
+ */
+public record TeardownSummary(int driverCount, int forcedKillCount, int abandonedCount, Duration elapsed,
+                              Map<String, Throwable> failures) {
+
+    /**
+     * Check whether every driver was quit cleanly within its deadline.
+     *
+     * @return true if there were no failures, false otherwise.
+     */
+    public boolean isClean() {
+        return failures.isEmpty();
+    }
+}
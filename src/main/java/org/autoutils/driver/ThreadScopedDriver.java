@@ -0,0 +1,97 @@
+package org.autoutils.driver;
+
+import org.openqa.selenium.WebDriver;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * ThreadScopedDriver holds one driver instance per thread (platform or virtual), so that parallel test
+ * workers running in the same JVM never overwrite each other's sessions.
+ *
+ * <p>Lookups go through a {@link ConcurrentHashMap} keyed by the owning {@link Thread}, which keeps the
+ * {@code getDriver()} hot path lock-free while still allowing the scope to be inspected and cleaned up
+ * from other threads. Bindings of threads that have terminated are dropped whenever a driver is bound or the scope
+ * is counted, so short-lived (e.g. virtual) threads that never unbind do not accumulate.</p>
+ *
+ * @param <T> The type of the driver being scoped.
+ */
+class ThreadScopedDriver<T> {
+
+    // Every scope created, so that reaped sessions can be unbound from whichever scope holds them
+    private static final Set<ThreadScopedDriver<?>> SCOPES = ConcurrentHashMap.newKeySet();
+
+    private final Map<Thread, T> drivers = new ConcurrentHashMap<>();
+
+    ThreadScopedDriver() {
+        SCOPES.add(this);
+    }
+
+    /**
+     * Unbind the given driver from every scope and thread it is bound to, including lazy proxies that launched it.
+     *
+     * @param driver The driver instance to unbind.
+     */
+    static void releaseEverywhere(Object driver) {
+        for (ThreadScopedDriver<?> scope : SCOPES) {
+            scope.drivers.values().removeIf(bound -> bound == driver
+                    || (bound instanceof WebDriver webDriver && LazyWebDriver.unwrapIfStarted(webDriver) == driver));
+        }
+    }
+
+    /**
+     * Drop the bindings of threads that have terminated, so their drivers do not stay reachable.
+     */
+    static void purgeTerminatedThreads() {
+        for (ThreadScopedDriver<?> scope : SCOPES) {
+            scope.purgeTerminated();
+        }
+    }
+
+    private void purgeTerminated() {
+        drivers.keySet().removeIf(thread -> !thread.isAlive());
+    }
+
+    /**
+     * Get the driver bound to the current thread.
+     *
+     * @return The driver instance, or null if none is bound to the current thread.
+     */
+    T get() {
+        return drivers.get(Thread.currentThread());
+    }
+
+    /**
+     * Bind a driver to the current thread, replacing any previously bound driver.
+     *
+     * @param driver The driver instance to bind, or null to unbind the current one.
+     */
+    void set(T driver) {
+        if (driver == null) {
+            drivers.remove(Thread.currentThread());
+        } else {
+            purgeTerminated();
+            drivers.put(Thread.currentThread(), driver);
+        }
+    }
+
+    /**
+     * Unbind and return the driver bound to the current thread.
+     *
+     * @return The previously bound driver instance, or null if none was bound.
+     */
+    T remove() {
+        return drivers.remove(Thread.currentThread());
+    }
+
+    /**
+     * Get the number of threads that currently have a driver bound.
+     *
+     * @return The number of bound drivers.
+     */
+    int size() {
+        purgeTerminated();
+        return drivers.size();
+    }
+}
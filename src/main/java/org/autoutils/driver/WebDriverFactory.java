@@ -4,24 +4,90 @@ import org.autoutils.driver.exception.InvalidBrowserException;
 import org.autoutils.driver.exception.InvalidBrowserOptionsException;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.chrome.ChromeDriver;
+import org.openqa.selenium.chrome.ChromeDriverService;
 import org.openqa.selenium.chrome.ChromeOptions;
+import org.openqa.selenium.chromium.ChromiumOptions;
 import org.openqa.selenium.edge.EdgeDriver;
+import org.openqa.selenium.edge.EdgeDriverService;
 import org.openqa.selenium.edge.EdgeOptions;
 import org.openqa.selenium.firefox.FirefoxDriver;
 import org.openqa.selenium.firefox.FirefoxOptions;
+import org.openqa.selenium.firefox.GeckoDriverService;
 import org.openqa.selenium.ie.InternetExplorerDriver;
+import org.openqa.selenium.ie.InternetExplorerDriverService;
 import org.openqa.selenium.ie.InternetExplorerOptions;
 import org.openqa.selenium.safari.SafariDriver;
+import org.openqa.selenium.safari.SafariDriverService;
+import org.openqa.selenium.remote.service.DriverService;
 import org.openqa.selenium.safari.SafariOptions;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
 class WebDriverFactory {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(WebDriverFactory.class);
 
+    private static volatile RequestBlocklist requestBlocklist;
+    private static volatile boolean sharedDriverServices;
+    private static final Map<String, ProfileTemplate> profileTemplates = new ConcurrentHashMap<>();
+
+    /**
+     * Set the blocklist installed on every driver created from now on.
+     *
+     * @param blocklist The requests to block, or null to block nothing.
+     */
+    static void setRequestBlocklist(RequestBlocklist blocklist) {
+        requestBlocklist = blocklist;
+    }
+
+    /**
+     * Create Chrome and Edge sessions on one shared driver service per browser instead of a service per session.
+     *
+     * @param shared true to share driver services, false to start one per session (the default).
+     */
+    static void setSharedDriverServices(boolean shared) {
+        sharedDriverServices = shared;
+    }
+
+    /**
+     * Start every new session of the template's browser from a clone of the template, unless its options set their
+     * own user data directory.
+     *
+     * @param template The profile template.
+     */
+    static void setProfileTemplate(ProfileTemplate template) {
+        profileTemplates.put(template.getBrowser(), template);
+    }
+
+    /**
+     * Stop using a profile template for the given browser.
+     *
+     * @param browser The browser type.
+     */
+    static void removeProfileTemplate(String browser) {
+        profileTemplates.remove(browser.toLowerCase());
+    }
+
+    /**
+     * Get the WebDriver for web browsers with performance profiles applied on top of the given options.
+     *
+     * @param browser  the browser type (chrome, firefox, edge, safari).
+     * @param options  the browser-specific capabilities/options; not modified, the profiles are applied to a copy.
+     * @param profiles the performance profiles to apply, in order.
+     * @return the initialized WebDriver.
+     * @throws InvalidBrowserOptionsException if the wrong options are passed.
+     */
+    public static WebDriver createWebDriver(String browser, Object options, PerformanceProfile... profiles) {
+        return createWebDriver(browser, PerformanceProfile.applyAll(options, profiles));
+    }
+
     /**
      * Get the WebDriver for web browsers (Chrome, Firefox, Edge, Safari).
+     * Every driver uses the HTTP client configuration shared through {@link HttpClientProvider}.
      *
      * @param browser the browser type (chrome, firefox, edge, safari).
      * @param options the browser-specific capabilities/options.
@@ -29,12 +95,53 @@ class WebDriverFactory {
      * @throws InvalidBrowserOptionsException if the wrong options are passed.
      */
     public static WebDriver createWebDriver(String browser, Object options) {
+        ProfileTemplate template = profileTemplates.get(browser.toLowerCase());
+        Path profileClone = null;
+        if (template != null && options instanceof ChromiumOptions<?> chromiumOptions && !ProfileTemplate.hasUserDataDir(chromiumOptions)) {
+            profileClone = template.cloneProfile();
+            options = ProfileTemplate.withUserDataDir(chromiumOptions, profileClone);
+        }
+
         WebDriver driver;
+        SessionAdmissionController.Admission admission = SessionAdmissionController.admit(browser);
+        try {
+            driver = launch(browser, options);
+            DriverSessionManager.registerDriver(driver, browser);  // Counted as live before its creation slot is freed
+        } catch (RuntimeException e) {
+            if (profileClone != null) {
+                ProfileTemplate.deleteQuietly(profileClone);
+            }
+            throw e;
+        } finally {
+            admission.close();
+        }
+        if (profileClone != null) {
+            ProfileTemplate.deleteOnBrowserExit(profileClone);
+        }
+
+        OrphanedProcessSweeper.record(driver);
+        RequestBlocklist blocklist = requestBlocklist;
+        if (blocklist != null) {
+            RequestBlocker.install(driver, blocklist);
+        }
+        LOGGER.debug("{} driver initialized successfully.", browser);
+        return driver;
+    }
+
+    private static WebDriver launch(String browser, Object options) {
+        WebDriver driver;
+        DriverService service = null;  // Stays null for sessions on a shared driver service
 
         switch (browser.toLowerCase()) {
             case "chrome":
                 if (options instanceof ChromeOptions chromeOptions) {
-                    driver = new ChromeDriver(chromeOptions);
+                    if (sharedDriverServices) {
+                        driver = SharedDriverServices.createChromeDriver(chromeOptions);
+                    } else {
+                        ChromeDriverService chromeService = ChromeDriverService.createDefaultService();
+                        service = chromeService;
+                        driver = new ChromeDriver(chromeService, chromeOptions, HttpClientProvider.getClientConfig());
+                    }
                 } else {
                     throw new InvalidBrowserOptionsException("Invalid options provided for Chrome. Expected ChromeOptions.");
                 }
@@ -42,7 +149,9 @@ class WebDriverFactory {
 
             case "firefox":
                 if (options instanceof FirefoxOptions firefoxOptions) {
-                    driver = new FirefoxDriver(firefoxOptions);
+                    GeckoDriverService geckoService = GeckoDriverService.createDefaultService();
+                    service = geckoService;
+                    driver = new FirefoxDriver(geckoService, firefoxOptions, HttpClientProvider.getClientConfig());
                 } else {
                     throw new InvalidBrowserOptionsException("Invalid options provided for Firefox. Expected FirefoxOptions.");
                 }
@@ -50,7 +159,13 @@ class WebDriverFactory {
 
             case "edge":
                 if (options instanceof EdgeOptions edgeOptions) {
-                    driver = new EdgeDriver(edgeOptions);
+                    if (sharedDriverServices) {
+                        driver = SharedDriverServices.createEdgeDriver(edgeOptions);
+                    } else {
+                        EdgeDriverService edgeService = EdgeDriverService.createDefaultService();
+                        service = edgeService;
+                        driver = new EdgeDriver(edgeService, edgeOptions, HttpClientProvider.getClientConfig());
+                    }
                 } else {
                     throw new InvalidBrowserOptionsException("Invalid options provided for Edge. Expected EdgeOptions.");
                 }
@@ -58,7 +173,9 @@ class WebDriverFactory {
 
             case "ie":
                 if (options instanceof InternetExplorerOptions ieOptions) {
-                    driver = new InternetExplorerDriver(ieOptions);
+                    InternetExplorerDriverService ieService = InternetExplorerDriverService.createDefaultService();
+                    service = ieService;
+                    driver = new InternetExplorerDriver(ieService, ieOptions, HttpClientProvider.getClientConfig());
                 } else {
                     throw new InvalidBrowserOptionsException("Invalid options provided for IE. Expected InternetExplorerOptions.");
                 }
@@ -66,7 +183,9 @@ class WebDriverFactory {
 
             case "safari":
                 if (options instanceof SafariOptions safariOptions) {
-                    driver = new SafariDriver(safariOptions);
+                    SafariDriverService safariService = SafariDriverService.createDefaultService();
+                    service = safariService;
+                    driver = new SafariDriver(safariService, safariOptions, HttpClientProvider.getClientConfig());
                 } else {
                     throw new InvalidBrowserOptionsException("Invalid options provided for Safari. Expected SafariOptions.");
                 }
@@ -76,8 +195,9 @@ class WebDriverFactory {
                 throw new InvalidBrowserException("Unsupported browser: " + browser);
         }
 
-        DriverSessionManager.registerDriver(driver);
-        LOGGER.debug("{} driver initialized successfully.", browser);
+        if (service != null) {
+            DriverProcesses.recordServiceUrl(driver, service.getUrl());
+        }
         return driver;
     }
 }
@@ -4,11 +4,20 @@ import org.openqa.selenium.WebDriver;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+/**
+ * WebDriverManager holds the WebDriver of the current thread. Each thread (platform or virtual) gets its own
+ * session, so parallel test workers can share the singleton without overwriting each other's drivers.
+ */
 public class WebDriverManager implements Driver<WebDriver> {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(WebDriverManager.class);
 
-    private WebDriver webDriver;
+    private final ThreadScopedDriver<WebDriver> webDriver = new ThreadScopedDriver<>();
+    private volatile boolean lazyInitialization;
     private static final WebDriverManager INSTANCE = new WebDriverManager();
 
     private WebDriverManager() {
@@ -20,67 +29,184 @@ public class WebDriverManager implements Driver<WebDriver> {
     }
 
     /**
-     * Get the initialized WebDriver.
+     * Get the initialized WebDriver bound to the current thread.
      *
      * @return The WebDriver instance.
      */
     public WebDriver getDriver() {
-        ensureDriverInitialized();
-        return webDriver;
+        WebDriver driver = webDriver.get();
+        if (driver == null) {
+            throw new IllegalStateException("WebDriver not initialized.");
+        }
+        DriverSessionManager.touch(driver);
+        return driver;
     }
 
     /**
-     * Initializes WebDriver with specific browser options via the factory.
+     * Initializes WebDriver with specific browser options via the factory and binds it to the current thread.
+     * With lazy initialization enabled, a proxy is returned instead and the browser is launched on its first command.
      *
      * @param browserType The type of browser (chrome, firefox, edge, etc.)
      * @param options     Browser-specific options
      * @return The initialized WebDriver instance
      */
     public WebDriver getDriver(String browserType, Object options) {
-        webDriver = WebDriverFactory.createWebDriver(browserType, options);  // Delegate to WebDriverFactory
-        return webDriver;
+        WebDriver driver = lazyInitialization
+                ? LazyWebDriver.create(browserType, options)
+                : WebDriverFactory.createWebDriver(browserType, options);  // Delegate to WebDriverFactory
+        webDriver.set(driver);
+        return driver;
     }
 
     /**
-     * Set the WebDriver instance for web tests.
+     * Initializes WebDriver like {@link #getDriver(String, Object)}, with performance profiles applied on top of the
+     * given options.
+     *
+     * @param browserType The type of browser (chrome, firefox, edge, etc.)
+     * @param options     Browser-specific options, not modified; the profiles are applied to a copy
+     * @param profiles    The performance profiles to apply, in order
+     * @return The initialized WebDriver instance
+     */
+    public WebDriver getDriver(String browserType, Object options, PerformanceProfile... profiles) {
+        return getDriver(browserType, PerformanceProfile.applyAll(options, profiles));
+    }
+
+    /**
+     * Enable or disable lazy initialization. When enabled, {@link #getDriver(String, Object)} returns a proxy that
+     * launches the browser only when the first command is sent, and quitting a proxy that was never used is a no-op.
+     * This avoids launching browsers for tests that obtain a driver in shared setup but never touch the UI.
+     *
+     * <p>The proxy implements WebDriver, JavascriptExecutor, TakesScreenshot, HasCapabilities, Interactive and
+     * WrapsDriver; it cannot be cast to a browser-specific driver class such as ChromeDriver.</p>
+     *
+     * @param lazyInitialization true to return lazy proxies, false to launch browsers immediately (the default).
+     */
+    public void setLazyInitialization(boolean lazyInitialization) {
+        this.lazyInitialization = lazyInitialization;
+    }
+
+    /**
+     * Install a request blocklist on every web driver created from now on, including lazily launched and pooled
+     * drivers. Blocked requests are counted per session in {@link DriverSession#getRequestBlockingStats()}.
+     *
+     * @param blocklist The requests to block, or null to stop blocking for new drivers.
+     */
+    public void setRequestBlocklist(RequestBlocklist blocklist) {
+        WebDriverFactory.setRequestBlocklist(blocklist);
+    }
+
+    /**
+     * Enable or disable shared driver services. When enabled, all Chrome sessions run on one long-lived chromedriver
+     * process and all Edge sessions on one msedgedriver process, instead of one service process per session. A
+     * shared service that dies is restarted for the next session and every shared service is stopped at JVM shutdown.
+     * Firefox always gets a service per session, as geckodriver serves a single session per process.
+     *
+     * <p>Drivers created on a shared service are ChromiumDrivers and cannot be cast to ChromeDriver or EdgeDriver.</p>
+     *
+     * @param shared true to share driver services, false to start one per session (the default).
+     */
+    public void setSharedDriverServices(boolean shared) {
+        WebDriverFactory.setSharedDriverServices(shared);
+    }
+
+    /**
+     * Start every new driver of the template's browser from a clone of the warmed profile template, placed on a
+     * RAM-backed file system where available. Drivers whose options set their own user data directory are unaffected.
+     *
+     * @param template The profile template, built with {@link ProfileTemplate#build}.
+     */
+    public void setProfileTemplate(ProfileTemplate template) {
+        WebDriverFactory.setProfileTemplate(template);
+    }
+
+    /**
+     * Stop starting new drivers of the given browser from a profile template.
+     *
+     * @param browserType The type of browser (chrome, edge).
+     */
+    public void removeProfileTemplate(String browserType) {
+        WebDriverFactory.removeProfileTemplate(browserType);
+    }
+
+    /**
+     * Log the current thread's WebDriver in as the given user or role, restoring a cached authenticated state
+     * (cookies, localStorage and sessionStorage) when possible instead of running the login flow.
+     *
+     * @param key             The user or role to log in as.
+     * @param appUrl          A page of the application on the origin the state belongs to.
+     * @param loginFlow       The real login flow, run when no cached state is accepted.
+     * @param isAuthenticated Checks whether the session is logged in.
+     * @return true if the state was restored from the cache, false if the login flow ran.
+     * @see BrowserStateCache
+     */
+    public boolean authenticate(String key, String appUrl, Consumer<WebDriver> loginFlow, Predicate<WebDriver> isAuthenticated) {
+        return BrowserStateCache.getInstance().restoreOrLogin(getDriver(), key, appUrl, loginFlow, isAuthenticated);
+    }
+
+    /**
+     * Set the WebDriver instance for web tests running on the current thread.
      *
      * @param driver The WebDriver instance to be set.
      */
     @Override
     public void setDriver(WebDriver driver) {
-        this.webDriver = driver;
+        webDriver.set(driver);
+        if (driver != null) {
+            DriverSessionManager.assignOwner(driver, Thread.currentThread());
+        }
     }
 
     /**
-     * Closes the current WebDriver session.
+     * Closes the current thread's WebDriver session.
      */
     @Override
     public void closeDriver() {
-        if (webDriver != null) {
-            webDriver.close();
-            webDriver = null;
+        WebDriver driver = webDriver.remove();
+        if (driver != null) {
+            if (LazyWebDriver.isUnstarted(driver)) {
+                return;  // Never used, no browser to close
+            }
+            driver.close();
+            DriverSessionManager.deregisterIfEnded(LazyWebDriver.unwrapIfStarted(driver));
             LOGGER.debug("WebDriver session closed.");
         }
     }
 
     /**
-     * Quits the current WebDriver session and releases resources.
+     * Quits the current thread's WebDriver session and releases resources.
      */
     @Override
     public void quitDriver() {
-        if (webDriver != null) {
-            webDriver.quit();
-            webDriver = null;
+        WebDriver driver = webDriver.remove();
+        if (driver != null) {
+            DriverSessionManager.deregisterDriver(driver);
+            driver.quit();
             LOGGER.debug("WebDriver session quit.");
         }
     }
 
     /**
-     * Ensure the WebDriver is initialized before use.
+     * Detaches the current thread's WebDriver session immediately and quits it in the background, so the thread can
+     * acquire a new driver without waiting for the teardown. Pending quits are flushed when the JVM shuts down.
+     *
+     * @return A future completed once the session has been quit.
+     * @see DriverSessionManager#setAsyncQuitConcurrency(int)
+     */
+    public CompletableFuture<Void> quitDriverAsync() {
+        WebDriver driver = webDriver.remove();
+        if (driver == null) {
+            return CompletableFuture.completedFuture(null);
+        }
+        LOGGER.debug("WebDriver session detached, quitting in the background.");
+        return DriverSessionManager.quitAsync(driver);
+    }
+
+    /**
+     * Ensure the current thread's WebDriver is initialized before use.
      */
     @Override
     public void ensureDriverInitialized() {
-        if (webDriver == null) {
+        if (webDriver.get() == null) {
             throw new IllegalStateException("WebDriver not initialized.");
         }
     }
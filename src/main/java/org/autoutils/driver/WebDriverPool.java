@@ -0,0 +1,348 @@
+package org.autoutils.driver;
+
+import org.openqa.selenium.Capabilities;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.chromium.HasCdp;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.time.Duration;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * WebDriverPool keeps a configurable number of pre-launched WebDriver sessions for one browser/options profile,
+ * so that browser startup happens in the background instead of on the test's critical path.
+ *
+ * <p>Sessions are created through {@link WebDriverFactory}, which registers them with {@link DriverSessionManager}.
+ * A checked-out session is reset when it is checked back in: extra tabs are closed, cookies and all site data
+ * (web storage, IndexedDB, Cache Storage, service workers) of every origin the session has used are cleared through
+ * DevTools, and the remaining tab is navigated to {@code about:blank}. Browsers without DevTools (e.g. Firefox,
+ * Safari) cannot have their site data cleared completely, so their sessions are never reused: each checkin replaces
+ * the session with a fresh one in the background. Sessions that fail to reset, or that exceed the
+ * {@link DriverSessionManager#setRecyclingPolicy(RecyclingPolicy) recycling policy}, are discarded and replaced in the
+ * background as well.</p>
+ *
+ * <p>Example of usage:</p>
+ * <pre>{@code
+ * WebDriverPool pool = WebDriverPool.getPool("chrome", new ChromeOptions(), 4);
+ * WebDriver driver = pool.checkout();
+ * try {
+ *     driver.get("https://example.com");
+ * } finally {
+ *     pool.checkin(driver);
+ * }
+ * }</pre>
+ */
+public class WebDriverPool {
+    private static final Logger LOGGER = LoggerFactory.getLogger(WebDriverPool.class);
+
+    private static final Duration DEFAULT_CHECKOUT_TIMEOUT = Duration.ofSeconds(30);
+    private static final String BLANK_PAGE = "about:blank";
+    private static final Map<String, WebDriverPool> POOLS = new ConcurrentHashMap<>();
+
+    private final String profileKey;
+    private final String browser;
+    private final Object options;
+    private final int size;
+    private final BlockingQueue<WebDriver> idleDrivers = new LinkedBlockingQueue<>();
+    private final Set<WebDriver> checkedOutDrivers = ConcurrentHashMap.newKeySet();
+    private final AtomicInteger launchingCount = new AtomicInteger();
+    private final ExecutorService refillExecutor;
+    private volatile boolean shutdown;
+
+    private WebDriverPool(String profileKey, String browser, Object options, int size) {
+        this.profileKey = profileKey;
+        this.browser = browser;
+        this.options = options;
+        this.size = size;
+        this.refillExecutor = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("webdriver-pool-" + browser + "-", 0).factory());
+    }
+
+    /**
+     * Get the pool for the given browser/options profile, creating and warming it up if it does not exist yet.
+     * Pools are shared per profile, so every caller asking for the same browser and options receives the same pool.
+     *
+     * @param browser The browser type (chrome, firefox, edge, ie, safari).
+     * @param options The browser-specific options used to launch every session of the pool.
+     * @param size    The number of warm sessions the pool keeps ready for checkout.
+     * @return The pool for the given profile.
+     * @throws IllegalArgumentException if the size is lower than one, or a pool of a different size already exists
+     *                                  for the profile.
+     */
+    public static WebDriverPool getPool(String browser, Object options, int size) {
+        if (size < 1) {
+            throw new IllegalArgumentException("Pool size must be at least 1, but was: " + size);
+        }
+        String profileKey = profileKey(browser, options);
+        WebDriverPool pool = POOLS.computeIfAbsent(profileKey, key -> {
+            WebDriverPool created = new WebDriverPool(key, browser, options, size);
+            created.refill();
+            LOGGER.debug("WebDriver pool created for profile {} with {} sessions.", key, size);
+            return created;
+        });
+        if (pool.size != size) {
+            throw new IllegalArgumentException("WebDriver pool for profile " + profileKey + " already exists with "
+                    + pool.size + " sessions, not " + size + ".");
+        }
+        return pool;
+    }
+
+    /**
+     * Shut down every pool created through {@link #getPool(String, Object, int)}.
+     */
+    public static void shutdownAll() {
+        for (WebDriverPool pool : POOLS.values()) {
+            pool.shutdown();
+        }
+    }
+
+    /**
+     * Check out a session, waiting up to the default timeout (30 seconds) for a warm one to become available.
+     *
+     * @return A ready-to-use WebDriver session.
+     */
+    public WebDriver checkout() {
+        return checkout(DEFAULT_CHECKOUT_TIMEOUT);
+    }
+
+    /**
+     * Check out a session, waiting up to the given timeout for a warm one to become available.
+     * If no warm session arrives in time, a new session is launched on the calling thread instead.
+     *
+     * @param timeout The maximum time to wait for a warm session.
+     * @return A ready-to-use WebDriver session.
+     * @throws IllegalStateException if the pool has been shut down.
+     */
+    public WebDriver checkout(Duration timeout) {
+        ensureNotShutdown();
+        WebDriver driver = idleDrivers.poll();
+        refill();
+        if (driver == null) {
+            try {
+                driver = idleDrivers.poll(timeout.toMillis(), TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new RuntimeException("Waiting for a pooled WebDriver was interrupted", e);
+            }
+        }
+        if (driver == null) {
+            LOGGER.debug("No warm session available for profile {} within {} ms, launching one directly.", profileKey, timeout.toMillis());
+            driver = WebDriverFactory.createWebDriver(browser, options);
+        }
+        checkedOutDrivers.add(driver);
+        DriverSessionManager.assignOwner(driver, Thread.currentThread());
+        return driver;
+    }
+
+    /**
+     * Return a session to the pool. The session is reset and kept warm for the next checkout, or quit if it cannot be
+     * reset (including every session of a browser without DevTools) or the pool already holds enough warm sessions.
+     *
+     * @param driver The WebDriver previously obtained from {@link #checkout()}.
+     * @throws IllegalArgumentException if the driver was not checked out from this pool.
+     */
+    public void checkin(WebDriver driver) {
+        if (!checkedOutDrivers.remove(driver)) {
+            throw new IllegalArgumentException("WebDriver was not checked out from pool " + profileKey);
+        }
+        if (shutdown) {
+            discard(driver);
+            return;
+        }
+        if (!(LazyWebDriver.unwrapIfStarted(driver) instanceof HasCdp) || DriverSessionManager.shouldRecycle(driver)) {
+            discard(driver);
+            refill();
+            return;
+        }
+        try {
+            resetSession(driver);
+        } catch (WebDriverException e) {
+            LOGGER.warn("Failed to reset pooled session, discarding it: {}", e.toString());
+            discard(driver);
+            refill();
+            return;
+        }
+        if (idleDrivers.size() + launchingCount.get() < size) {
+            DriverSessionManager.assignOwner(driver, null);
+            idleDrivers.offer(driver);
+        } else {
+            discard(driver);
+        }
+    }
+
+    /**
+     * Stop refilling the pool and quit all idle sessions. Sessions that are still checked out are quit
+     * when they are checked in.
+     */
+    public void shutdown() {
+        shutdown = true;
+        POOLS.remove(profileKey, this);
+        refillExecutor.shutdown();
+        WebDriver driver;
+        while ((driver = idleDrivers.poll()) != null) {
+            discard(driver);
+        }
+        LOGGER.debug("WebDriver pool for profile {} shut down.", profileKey);
+    }
+
+    /**
+     * Get the number of warm sessions currently waiting for checkout.
+     *
+     * @return The number of idle sessions.
+     */
+    public int getIdleCount() {
+        return idleDrivers.size();
+    }
+
+    /**
+     * Get the number of sessions currently checked out of the pool.
+     *
+     * @return The number of checked-out sessions.
+     */
+    public int getCheckedOutCount() {
+        return checkedOutDrivers.size();
+    }
+
+    /**
+     * Launch sessions in the background until the idle and launching sessions reach the pool size.
+     */
+    private void refill() {
+        while (!shutdown) {
+            int launching = launchingCount.get();
+            if (idleDrivers.size() + launching >= size) {
+                return;
+            }
+            if (launchingCount.compareAndSet(launching, launching + 1)) {
+                try {
+                    refillExecutor.execute(this::launchSession);
+                } catch (RejectedExecutionException e) {
+                    launchingCount.decrementAndGet();  // Shut down concurrently
+                    return;
+                }
+            }
+        }
+    }
+
+    private void launchSession() {
+        try {
+            WebDriver driver = WebDriverFactory.createWebDriver(browser, options);
+            if (shutdown) {
+                discard(driver);
+            } else {
+                DriverSessionManager.assignOwner(driver, null);
+                idleDrivers.offer(driver);
+            }
+        } catch (RuntimeException e) {
+            LOGGER.warn("Failed to launch pooled session for profile {}: {}", profileKey, e.toString());
+        } finally {
+            launchingCount.decrementAndGet();
+        }
+    }
+
+    /**
+     * Reset the session state so the next test starts from a clean browser: close extra tabs, clear cookies and the
+     * site data of every origin the session has used, and navigate to a blank page.
+     *
+     * @param driver The WebDriver to reset; must support DevTools commands.
+     */
+    private void resetSession(WebDriver driver) {
+        HasCdp cdpDriver = (HasCdp) LazyWebDriver.unwrapIfStarted(driver);
+        Set<String> origins = new LinkedHashSet<>();
+        Set<String> handles = driver.getWindowHandles();
+        String keptHandle = handles.iterator().next();
+        for (String handle : handles) {
+            driver.switchTo().window(handle);
+            collectHistoryOrigins(cdpDriver, origins);
+            if (!handle.equals(keptHandle)) {
+                driver.close();
+            }
+        }
+        driver.switchTo().window(keptHandle);
+        collectTargetAndCookieOrigins(cdpDriver, origins);
+
+        for (String origin : origins) {
+            cdpDriver.executeCdpCommand("Storage.clearDataForOrigin", Map.of("origin", origin, "storageTypes", "all"));
+        }
+        cdpDriver.executeCdpCommand("Network.clearBrowserCookies", Map.of());
+        driver.get(BLANK_PAGE);
+    }
+
+    private static void collectHistoryOrigins(HasCdp cdpDriver, Set<String> origins) {
+        if (cdpDriver.executeCdpCommand("Page.getNavigationHistory", Map.of()).get("entries") instanceof List<?> entries) {
+            for (Object entry : entries) {
+                if (entry instanceof Map<?, ?> historyEntry) {
+                    addOrigin(String.valueOf(historyEntry.get("url")), origins);
+                }
+            }
+        }
+    }
+
+    /**
+     * Collect the origins of live targets (frames, workers, service workers) and of every cookie, which also covers
+     * origins only visited in tabs the test already closed.
+     */
+    private static void collectTargetAndCookieOrigins(HasCdp cdpDriver, Set<String> origins) {
+        if (cdpDriver.executeCdpCommand("Target.getTargets", Map.of()).get("targetInfos") instanceof List<?> targets) {
+            for (Object target : targets) {
+                if (target instanceof Map<?, ?> targetInfo) {
+                    addOrigin(String.valueOf(targetInfo.get("url")), origins);
+                }
+            }
+        }
+        if (cdpDriver.executeCdpCommand("Network.getAllCookies", Map.of()).get("cookies") instanceof List<?> cookies) {
+            for (Object cookie : cookies) {
+                if (cookie instanceof Map<?, ?> cookieInfo) {
+                    String domain = String.valueOf(cookieInfo.get("domain"));
+                    String host = domain.startsWith(".") ? domain.substring(1) : domain;
+                    origins.add("https://" + host);
+                    origins.add("http://" + host);
+                }
+            }
+        }
+    }
+
+    private static void addOrigin(String url, Set<String> origins) {
+        try {
+            URI uri = new URI(url);
+            if (("http".equals(uri.getScheme()) || "https".equals(uri.getScheme())) && uri.getHost() != null) {
+                origins.add(uri.getScheme() + "://" + uri.getHost() + (uri.getPort() == -1 ? "" : ":" + uri.getPort()));
+            }
+        } catch (URISyntaxException e) {
+            // Not a web page, no site data to clear
+        }
+    }
+
+    private void discard(WebDriver driver) {
+        DriverSessionManager.deregisterDriver(driver);
+        try {
+            driver.quit();
+        } catch (WebDriverException e) {
+            LOGGER.debug("Failed to quit discarded pooled session: {}", e.toString());
+        }
+    }
+
+    private void ensureNotShutdown() {
+        if (shutdown) {
+            throw new IllegalStateException("WebDriver pool " + profileKey + " has been shut down.");
+        }
+    }
+
+    private static String profileKey(String browser, Object options) {
+        Object optionsKey = options instanceof Capabilities capabilities ? capabilities.asMap() : options;
+        return browser.toLowerCase() + "|" + optionsKey;
+    }
+}
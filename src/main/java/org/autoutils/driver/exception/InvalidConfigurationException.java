@@ -0,0 +1,7 @@
+package org.autoutils.driver.exception;
+
+public class InvalidConfigurationException extends RuntimeException {
+    public InvalidConfigurationException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,7 @@
+package org.autoutils.driver.exception;
+
+public class NoDeviceAvailableException extends RuntimeException {
+    public NoDeviceAvailableException(String message) {
+        super(message);
+    }
+}
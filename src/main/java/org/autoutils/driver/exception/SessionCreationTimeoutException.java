@@ -0,0 +1,7 @@
+package org.autoutils.driver.exception;
+
+public class SessionCreationTimeoutException extends RuntimeException {
+    public SessionCreationTimeoutException(String message) {
+        super(message);
+    }
+}
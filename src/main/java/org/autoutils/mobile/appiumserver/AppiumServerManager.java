@@ -3,6 +3,7 @@ package org.autoutils.mobile.appiumserver;
 import io.appium.java_client.service.local.AppiumDriverLocalService;
 import io.appium.java_client.service.local.AppiumServiceBuilder;
 import io.appium.java_client.service.local.flags.GeneralServerFlag;
+import org.autoutils.driver.OrphanedProcessSweeper;
 import org.autoutils.mobile.appiumserver.exception.NoAvailablePortException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -128,6 +129,7 @@ public class AppiumServerManager {
                                                                                                                                                   .getPort())));
             appiumDriverLocalService.start();
             serverUrl = appiumDriverLocalService.getUrl();
+            OrphanedProcessSweeper.recordServerProcess(serverUrl);  // Lets a later run clean up if this JVM crashes
         } catch (IOException e) {
             throw new RuntimeException("Failed to start Appium server or create log file", e);
         }
@@ -0,0 +1,11 @@
+package org.autoutils.wait;
+
+/**
+ * The branch of a combined wait ({@link WaitForCondition#firstOf}, {@link WaitForCondition#anyOf}) that was met.
+ *
+ * @param index The position of the condition in the list of conditions passed to the wait, starting at 0.
+ * @param value The value the condition returned.
+ * @param <V>   The type of the value.
+ */
+public record ConditionMatch<V>(int index, V value) {
+}
@@ -0,0 +1,99 @@
+package org.autoutils.wait;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * PollingStrategy decides how long {@link WaitForCondition} sleeps between two evaluations of a condition.
+ *
+ * <p>A strategy is told how many polls have been made, the interval it returned last time and how long the last
+ * evaluation took, so strategies are stateless and one instance can be shared by any number of waits. All values are
+ * in nanoseconds.</p>
+ *
+ * <p>Example of usage:</p>
+ * <pre>{@code
+ * WaitForCondition<WebDriver> waitFor = new WaitForCondition<>(driver)
+ *     .withTimeout(Duration.ofSeconds(20))
+ *     .pollingWith(PollingStrategy.costAdaptive(2.0, Duration.ofMillis(50), Duration.ofSeconds(2)));
+ * }</pre>
+ */
+@FunctionalInterface
+public interface PollingStrategy {
+
+    /**
+     * Compute the interval to sleep before the next evaluation.
+     *
+     * @param poll                   The number of evaluations made so far, starting at 1.
+     * @param previousIntervalNanos  The interval returned for the previous poll, or 0 after the first evaluation.
+     * @param evaluationNanos        How long the last evaluation of the condition took.
+     * @return The interval to sleep, in nanoseconds; negative values are treated as 0.
+     */
+    long nextIntervalNanos(int poll, long previousIntervalNanos, long evaluationNanos);
+
+    /**
+     * Sleep the same interval between every evaluation.
+     *
+     * @param interval The polling interval.
+     * @return The strategy.
+     */
+    static PollingStrategy fixed(Duration interval) {
+        long intervalNanos = interval.toNanos();
+        return (poll, previousIntervalNanos, evaluationNanos) -> intervalNanos;
+    }
+
+    /**
+     * Start with a short interval and multiply it after every evaluation, up to a maximum. Suits conditions that are
+     * usually met quickly but occasionally take long.
+     *
+     * @param initial    The interval after the first evaluation.
+     * @param multiplier The factor the interval grows by after every evaluation, at least 1.
+     * @param max        The maximum interval.
+     * @return The strategy.
+     */
+    static PollingStrategy exponential(Duration initial, double multiplier, Duration max) {
+        if (multiplier < 1) {
+            throw new IllegalArgumentException("Multiplier must be at least 1, was " + multiplier);
+        }
+        long initialNanos = initial.toNanos();
+        long maxNanos = max.toNanos();
+        return (poll, previousIntervalNanos, evaluationNanos) -> previousIntervalNanos <= 0
+                ? Math.min(initialNanos, maxNanos)
+                : (long) Math.min(previousIntervalNanos * multiplier, maxNanos);
+    }
+
+    /**
+     * Back off exponentially with "decorrelated jitter": every interval is drawn at random between the base interval
+     * and three times the previous interval, up to a maximum. Spreads the polls of many concurrent waits on the same
+     * remote server instead of letting them poll in lockstep.
+     *
+     * @param base The minimum interval, and the interval after the first evaluation.
+     * @param max  The maximum interval.
+     * @return The strategy.
+     */
+    static PollingStrategy decorrelatedJitter(Duration base, Duration max) {
+        long baseNanos = base.toNanos();
+        long maxNanos = max.toNanos();
+        return (poll, previousIntervalNanos, evaluationNanos) -> {
+            long upperNanos = Math.min(maxNanos, Math.max(baseNanos, previousIntervalNanos) * 3);
+            return upperNanos <= baseNanos ? upperNanos : ThreadLocalRandom.current().nextLong(baseNanos, upperNanos + 1);
+        };
+    }
+
+    /**
+     * Keep the interval proportional to how long the condition takes to evaluate, so cheap in-JVM checks are polled
+     * often while conditions that cost a remote round trip are polled less, keeping the share of time spent
+     * evaluating roughly constant.
+     *
+     * @param factor The interval as a multiple of the last evaluation time, e.g. 2.0 to spend about a third of the
+     *               wait evaluating.
+     * @param min    The minimum interval.
+     * @param max    The maximum interval.
+     * @return The strategy.
+     */
+    static PollingStrategy costAdaptive(double factor, Duration min, Duration max) {
+        long minNanos = min.toNanos();
+        long maxNanos = max.toNanos();
+        return (poll, previousIntervalNanos, evaluationNanos) ->
+                Math.max(minNanos, Math.min(maxNanos, (long) (evaluationNanos * factor)));
+    }
+}
@@ -0,0 +1,31 @@
+package org.autoutils.wait;
+
+import java.time.Duration;
+
+/**
+ * A finished wait, as reported to {@link WaitTelemetry}.
+ *
+ * @param callSite      The method that started the wait, as {@code class.method:line}.
+ * @param label         The label given with {@link WaitForCondition#withLabel(String)}, or null.
+ * @param pollCount     The number of times the condition was evaluated.
+ * @param elapsed       The time from the start of the wait until it ended.
+ * @param outcome       How the wait ended.
+ * @param lastException The exception thrown by the last evaluation, or null if it returned normally.
+ */
+public record WaitEvent(String callSite, String label, int pollCount, Duration elapsed, Outcome outcome,
+                        Throwable lastException) {
+
+    /**
+     * How a wait ended.
+     */
+    public enum Outcome {
+        /** The condition was met. */
+        MET,
+        /** The timeout expired before the condition was met. */
+        TIMED_OUT,
+        /** The condition threw an exception that is not ignored, or the wait was interrupted. */
+        FAILED,
+        /** The future returned by {@link WaitForCondition#untilAsync} was cancelled or completed by the caller before the condition was met. */
+        CANCELLED
+    }
+}
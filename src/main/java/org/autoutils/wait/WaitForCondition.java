@@ -6,15 +6,26 @@ import org.slf4j.LoggerFactory;
 
 import java.time.Clock;
 import java.time.Duration;
-import java.time.Instant;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Function;
 
 /**
  * WaitForCondition is a utility class that provides a flexible waiting mechanism.
  * It allows for configurable timeouts, polling intervals, and exception handling.
- * By default, it waits up to 30 seconds, polling every 500 milliseconds.
+ * By default, it waits up to 30 seconds, polling every 500 milliseconds; the interval between polls can instead be
+ * decided by a {@link PollingStrategy}, e.g. backing off or adapting to how long the condition takes to evaluate.
+ * Finished waits are reported to {@link WaitTelemetry} when it is enabled.
  *
  * <p><b>Note:</b> This class is not designed to work with `void` methods. It expects
  * a return value to determine when the condition has been met. If you need to wait
@@ -41,12 +52,19 @@ public class WaitForCondition<T> {
     private static final Duration DEFAULT_TIMEOUT = Duration.ofSeconds(30); // Default to 30 seconds
     private static final Duration DEFAULT_POLLING_INTERVAL = Duration.ofMillis(500); // Default to 500 milliseconds
     private static final Logger LOGGER = LoggerFactory.getLogger(WaitForCondition.class);
+    private static final Clock SYSTEM_CLOCK = Clock.systemDefaultZone();
+
+    // Shared by every asynchronous wait: one thread only times the polls, evaluations run on virtual threads
+    private static final ScheduledThreadPoolExecutor POLL_SCHEDULER = createPollScheduler();
+    private static final ExecutorService POLL_EXECUTOR = Executors.newThreadPerTaskExecutor(
+            Thread.ofVirtual().name("wait-poll-", 0).factory());
 
     private final T input;
     private final Clock clock;
     private Duration timeout = DEFAULT_TIMEOUT;
-    private Duration pollingInterval = DEFAULT_POLLING_INTERVAL;
+    private PollingStrategy pollingStrategy = PollingStrategy.fixed(DEFAULT_POLLING_INTERVAL);
     private final List<Class<? extends Throwable>> ignoredExceptions = new ArrayList<>();
+    private String label;
 
     /**
      * Constructs a WaitForCondition instance with default timeout (30 seconds) and polling interval (500 milliseconds).
@@ -62,7 +80,7 @@ public class WaitForCondition<T> {
      * @param input The input to apply the waiting condition to.
      */
     public WaitForCondition(T input) {
-        this(input, Clock.systemDefaultZone());
+        this(input, SYSTEM_CLOCK);
     }
 
     /**
@@ -111,7 +129,27 @@ public class WaitForCondition<T> {
      * @return A reference to this WaitForCondition instance for method chaining.
      */
     public WaitForCondition<T> pollingEvery(Duration interval) {
-        this.pollingInterval = interval;
+        this.pollingStrategy = PollingStrategy.fixed(interval);
+        return this;
+    }
+
+    /**
+     * Sets the strategy deciding the interval between evaluations, replacing the fixed polling interval.
+     *
+     * <p>Example of usage in a method:</p>
+     * <pre>{@code
+     * public void configurePollingStrategy() {
+     *     WaitForCondition<WebDriver> waitFor = new WaitForCondition<>(driver);
+     *     // Starts at 50 milliseconds and doubles the interval up to 1 second
+     *     waitFor.pollingWith(PollingStrategy.exponential(Duration.ofMillis(50), 2.0, Duration.ofSeconds(1)));
+     * }
+     * }</pre>
+     *
+     * @param strategy The polling strategy.
+     * @return A reference to this WaitForCondition instance for method chaining.
+     */
+    public WaitForCondition<T> pollingWith(PollingStrategy strategy) {
+        this.pollingStrategy = strategy;
         return this;
     }
 
@@ -134,6 +172,26 @@ public class WaitForCondition<T> {
         return this;
     }
 
+    /**
+     * Sets a label identifying the condition in {@link WaitTelemetry}, e.g. when a shared helper method waits for
+     * many different conditions from the same call site.
+     *
+     * <p>Example of usage in a method:</p>
+     * <pre>{@code
+     * public void configureLabel() {
+     *     WaitForCondition<WebDriver> waitFor = new WaitForCondition<>(driver);
+     *     waitFor.withLabel("checkout-confirmation");  // Reported as the condition label in wait telemetry
+     * }
+     * }</pre>
+     *
+     * @param label The condition label.
+     * @return A reference to this WaitForCondition instance for method chaining.
+     */
+    public WaitForCondition<T> withLabel(String label) {
+        this.label = label;
+        return this;
+    }
+
     /**
      * Repeatedly applies this instance's input to the given function until the function returns a non-null,
      * non-false value, or the timeout expires.
@@ -172,50 +230,271 @@ public class WaitForCondition<T> {
      * @throws RuntimeException if the timeout expires before the condition is met.
      */
     public <V> V until(Function<? super T, V> condition) {
-        Instant start = clock.instant();
-        Instant end = start.plus(timeout);
+        // Kept allocation-free while the condition is not met: no Instant/Duration per poll, logging guarded
+        long startNanos = nowNanos();
+        long timeoutNanos = timeout.toNanos();
+        PollingStrategy strategy = pollingStrategy;
+        String callSite = WaitTelemetry.isEnabled() ? WaitTelemetry.callSite() : null;
         Throwable lastException;
+        int poll = 0;
+        long intervalNanos = 0;
 
         while (true) {
-            Instant now = clock.instant();
-            Duration elapsedTime = Duration.between(start, now);
-            Duration remainingTime = Duration.between(now, end).isNegative() ? Duration.ZERO : Duration.between(now, end);
+            long elapsedNanos = nowNanos() - startNanos;
+            long remainingNanos = Math.max(0, timeoutNanos - elapsedNanos);
 
+            long evaluationStart = System.nanoTime();
             try {
                 V value = condition.apply(input);
-                if (value != null && (Boolean.class != value.getClass() || Boolean.TRUE.equals(value))) {
-                    LOGGER.debug("Condition met with value: {} after {} seconds.", value, elapsedTime.toSeconds());
+                if (isSatisfied(value)) {
+                    if (LOGGER.isDebugEnabled()) {
+                        LOGGER.debug("Condition met with value: {} after {} seconds.", value, TimeUnit.NANOSECONDS.toSeconds(elapsedNanos));
+                    }
+                    report(callSite, label, poll + 1, startNanos, WaitEvent.Outcome.MET, null);
                     return value;
                 }
 
                 lastException = null;
-                LOGGER.debug("Condition not met, continuing to wait... Elapsed time: {} seconds, Remaining time: {} seconds.",
-                        elapsedTime.toSeconds(), remainingTime.toSeconds());
+                if (LOGGER.isDebugEnabled()) {
+                    LOGGER.debug("Condition not met, continuing to wait... Elapsed time: {} seconds, Remaining time: {} seconds.",
+                            TimeUnit.NANOSECONDS.toSeconds(elapsedNanos), TimeUnit.NANOSECONDS.toSeconds(remainingNanos));
+                }
             } catch (Exception e) { // Catching Exception instead of Throwable
-                lastException = propagateIfNotIgnored(e);
+                if (!isIgnored(ignoredExceptions, e)) {
+                    report(callSite, label, poll + 1, startNanos, WaitEvent.Outcome.FAILED, e);
+                }
+                lastException = propagateIfNotIgnored(ignoredExceptions, e);
                 LOGGER.warn("Exception occurred while evaluating condition: {}", e.toString());
             }
 
-            if (remainingTime.isZero()) {
-                LOGGER.error("Timeout reached after {} seconds, condition not met.", elapsedTime.toSeconds());
+            long evaluationNanos = System.nanoTime() - evaluationStart;
+
+            if (remainingNanos == 0) {
+                LOGGER.error("Timeout reached after {} seconds, condition not met.", TimeUnit.NANOSECONDS.toSeconds(elapsedNanos));
+                report(callSite, label, poll + 1, startNanos, WaitEvent.Outcome.TIMED_OUT, lastException);
                 throw timeoutException("Condition not met within the timeout", lastException);
             }
 
+            intervalNanos = Math.max(0, strategy.nextIntervalNanos(++poll, intervalNanos, evaluationNanos));
             try {
-                LOGGER.debug("Waiting for {} milliseconds before retrying...", pollingInterval.toMillis());
-                Thread.sleep(pollingInterval.toMillis());
+                // Never sleep past the deadline, so the last evaluation happens right at the timeout
+                long sleepNanos = Math.min(intervalNanos, remainingNanos);
+                if (LOGGER.isDebugEnabled()) {
+                    LOGGER.debug("Waiting for {} milliseconds before retrying...", TimeUnit.NANOSECONDS.toMillis(sleepNanos));
+                }
+                TimeUnit.NANOSECONDS.sleep(sleepNanos);
             } catch (InterruptedException e) {
                 Thread.currentThread().interrupt();
+                report(callSite, label, poll, startNanos, WaitEvent.Outcome.FAILED, e);
                 throw new RuntimeException("Waiting was interrupted", e);
             }
         }
     }
 
-    private Throwable propagateIfNotIgnored(Throwable e) {
-        for (Class<? extends Throwable> ignoredException : ignoredExceptions) {
-            if (ignoredException.isInstance(e)) {
-                return e;
+    /**
+     * Asynchronous variant of {@link #until(Function)}: returns immediately and evaluates the condition in the
+     * background, so no thread is blocked while waiting. Polls are timed by a single shared scheduler thread and each
+     * evaluation runs on a virtual thread, so thousands of waits can be in progress at the same time.
+     *
+     * <p>The returned future completes with the condition's value, or exceptionally with the exception thrown by
+     * {@link #timeoutException(String, Throwable)} or by the condition itself. Cancelling the future stops the wait;
+     * an evaluation already running is allowed to finish, but its result is discarded. Completing the future from
+     * outside stops the wait in the same way. Both are reported to {@link WaitTelemetry} as cancelled. The timeout,
+     * polling strategy, ignored exceptions and label are those configured when this method is called.</p>
+     *
+     * <p>Example of usage in a method:</p>
+     * <pre>{@code
+     * public CompletableFuture<WebElement> waitForBannerAsync(WebDriver driver) {
+     *     WaitForCondition<WebDriver> waitFor = new WaitForCondition<>(driver).ignoring(NoSuchElementException.class);
+     *     return waitFor.untilAsync(d -> d.findElement(By.id("banner")));
+     * }
+     * }</pre>
+     *
+     * @param <V> The function's expected return type.
+     * @param condition The condition to evaluate.
+     * @return A future completed with the function's return value once the condition is met.
+     */
+    public <V> CompletableFuture<V> untilAsync(Function<? super T, V> condition) {
+        AsyncPoll<V> asyncPoll = new AsyncPoll<>(condition);
+        asyncPoll.result.whenComplete((value, e) -> {
+            asyncPoll.cancelNextPoll();
+            if (asyncPoll.finished.compareAndSet(false, true)) {
+                asyncPoll.reportCompletedByCaller(e);  // Cancelled or completed through the returned future
+            }
+        });
+        POLL_EXECUTOR.execute(asyncPoll);
+        return asyncPoll.result;
+    }
+
+    /**
+     * Waits until one of several conditions is met, evaluating them in order on every poll within a single timeout.
+     * The first condition in the list that is met wins, so list the expected outcome first when several may be met
+     * at once. A condition throwing an ignored exception counts as not met and does not stop the others from being
+     * evaluated.
+     *
+     * <p>Example of usage in a method:</p>
+     * <pre>{@code
+     * public boolean submitSucceeded(WebDriver driver) {
+     *     WaitForCondition<WebDriver> waitFor = new WaitForCondition<>(driver).ignoring(NoSuchElementException.class);
+     *     ConditionMatch<WebElement> outcome = waitFor.firstOf(
+     *             d -> d.findElement(By.id("success-banner")),
+     *             d -> d.findElement(By.id("error-dialog")));
+     *     return outcome.index() == 0;
+     * }
+     * }</pre>
+     *
+     * @param <V> The conditions' common return type.
+     * @param conditions The conditions to evaluate, in order of priority.
+     * @return The first condition that was met, with its value.
+     * @throws RuntimeException if the timeout expires before any condition is met.
+     * @throws IllegalArgumentException if no condition is given.
+     */
+    @SafeVarargs
+    public final <V> ConditionMatch<V> firstOf(Function<? super T, ? extends V>... conditions) {
+        requireConditions(conditions.length);
+        List<Function<? super T, ? extends V>> branches = new ArrayList<>(conditions.length);
+        for (Function<? super T, ? extends V> condition : conditions) {
+            branches.add(Objects.requireNonNull(condition));  // Copied one by one, so the varargs array never escapes
+        }
+        return until(value -> {
+            RuntimeException ignoredException = null;
+            for (int i = 0; i < branches.size(); i++) {
+                try {
+                    V result = branches.get(i).apply(value);
+                    if (isSatisfied(result)) {
+                        return new ConditionMatch<>(i, result);
+                    }
+                } catch (RuntimeException e) {
+                    ignoredException = rethrowIfNotIgnored(e);
+                }
             }
+            return noMatch(ignoredException);
+        });
+    }
+
+    /**
+     * Waits until at least one of several conditions is met, evaluating all of them on every poll within a single
+     * timeout. Unlike {@link #firstOf(Function[])}, every condition met on the deciding poll is returned.
+     *
+     * @param <V> The conditions' common return type.
+     * @param conditions The conditions to evaluate.
+     * @return The conditions met on the deciding poll, in the order they were given; never empty.
+     * @throws RuntimeException if the timeout expires before any condition is met.
+     * @throws IllegalArgumentException if no condition is given.
+     */
+    @SafeVarargs
+    public final <V> List<ConditionMatch<V>> anyOf(Function<? super T, ? extends V>... conditions) {
+        requireConditions(conditions.length);
+        List<Function<? super T, ? extends V>> branches = new ArrayList<>(conditions.length);
+        for (Function<? super T, ? extends V> condition : conditions) {
+            branches.add(Objects.requireNonNull(condition));  // Copied one by one, so the varargs array never escapes
+        }
+        return until(value -> {
+            RuntimeException ignoredException = null;
+            List<ConditionMatch<V>> matches = new ArrayList<>();
+            for (int i = 0; i < branches.size(); i++) {
+                try {
+                    V result = branches.get(i).apply(value);
+                    if (isSatisfied(result)) {
+                        matches.add(new ConditionMatch<>(i, result));
+                    }
+                } catch (RuntimeException e) {
+                    ignoredException = rethrowIfNotIgnored(e);
+                }
+            }
+            return matches.isEmpty() ? noMatch(ignoredException) : List.copyOf(matches);
+        });
+    }
+
+    /**
+     * Waits until all of several conditions are met on the same poll, within a single timeout.
+     *
+     * @param <V> The conditions' common return type.
+     * @param conditions The conditions to evaluate.
+     * @return The values of the conditions, in the order they were given.
+     * @throws RuntimeException if the timeout expires before all conditions are met.
+     * @throws IllegalArgumentException if no condition is given.
+     */
+    @SafeVarargs
+    public final <V> List<V> allOf(Function<? super T, ? extends V>... conditions) {
+        requireConditions(conditions.length);
+        List<Function<? super T, ? extends V>> branches = new ArrayList<>(conditions.length);
+        for (Function<? super T, ? extends V> condition : conditions) {
+            branches.add(Objects.requireNonNull(condition));  // Copied one by one, so the varargs array never escapes
+        }
+        return until(value -> {
+            List<V> results = new ArrayList<>(branches.size());
+            for (Function<? super T, ? extends V> branch : branches) {
+                V result = branch.apply(value);  // Stop at the first unmet condition, ignored exceptions included
+                if (!isSatisfied(result)) {
+                    return null;
+                }
+                results.add(result);
+            }
+            return results;
+        });
+    }
+
+    /**
+     * Rejects a combined wait without conditions, which could never be met.
+     */
+    private static void requireConditions(int conditionCount) {
+        if (conditionCount == 0) {
+            throw new IllegalArgumentException("At least one condition is required");
+        }
+    }
+
+    /**
+     * Ends a poll of a combined wait in which no condition was met: rethrows the last ignored exception so it is
+     * reported as the cause on timeout, or returns null.
+     */
+    private static <R> R noMatch(RuntimeException ignoredException) {
+        if (ignoredException != null) {
+            throw ignoredException;
+        }
+        return null;
+    }
+
+    private RuntimeException rethrowIfNotIgnored(RuntimeException e) {
+        if (!isIgnored(ignoredExceptions, e)) {
+            throw e;
+        }
+        return e;
+    }
+
+    /**
+     * Report a finished wait to {@link WaitTelemetry}, unless telemetry was disabled when it started.
+     */
+    private void report(String callSite, String label, int pollCount, long startNanos, WaitEvent.Outcome outcome,
+                        Throwable lastException) {
+        if (callSite != null) {
+            WaitTelemetry.record(new WaitEvent(callSite, label, pollCount, Duration.ofNanos(nowNanos() - startNanos),
+                    outcome, lastException));
+        }
+    }
+
+    /**
+     * Read the current time for timeout checks: the monotonic {@link System#nanoTime()} for the default clock,
+     * otherwise the given clock, so waits remain controllable with a fixed or offset clock.
+     */
+    private long nowNanos() {
+        return clock == SYSTEM_CLOCK ? System.nanoTime() : TimeUnit.MILLISECONDS.toNanos(clock.millis());
+    }
+
+    private static boolean isSatisfied(Object value) {
+        return value != null && (Boolean.class != value.getClass() || Boolean.TRUE.equals(value));
+    }
+
+    private static ScheduledThreadPoolExecutor createPollScheduler() {
+        ScheduledThreadPoolExecutor scheduler = new ScheduledThreadPoolExecutor(1,
+                Thread.ofPlatform().name("wait-poll-scheduler").daemon().factory());
+        scheduler.setRemoveOnCancelPolicy(true);  // Cancelled waits must not pile up in the queue
+        return scheduler;
+    }
+
+    private static Throwable propagateIfNotIgnored(List<Class<? extends Throwable>> ignored, Throwable e) {
+        if (isIgnored(ignored, e)) {
+            return e;
         }
         if (e instanceof Error error) {
             throw error;
@@ -226,6 +505,15 @@ public class WaitForCondition<T> {
         throw new RuntimeException(e);
     }
 
+    private static boolean isIgnored(List<Class<? extends Throwable>> ignored, Throwable e) {
+        for (Class<? extends Throwable> ignoredException : ignored) {
+            if (ignoredException.isInstance(e)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     /**
      * Throws a timeout exception with a message and a cause. This method may be overridden to throw an exception
      * that is idiomatic for a particular use case.
@@ -237,4 +525,112 @@ public class WaitForCondition<T> {
     protected WaitTimeoutException timeoutException(String message, Throwable lastException) {
         return new WaitTimeoutException(message, lastException);
     }
+
+    /**
+     * One asynchronous wait. Each poll runs on its own virtual thread and schedules the next one, so at most one
+     * evaluation of the condition is in progress at a time.
+     */
+    private final class AsyncPoll<V> implements Runnable {
+        private final CompletableFuture<V> result = new CompletableFuture<>();
+        private final Function<? super T, V> condition;
+        private final PollingStrategy strategy = pollingStrategy;
+        private final long startNanos = nowNanos();
+        private final long timeoutNanos = timeout.toNanos();
+        private final String callSite = WaitTelemetry.isEnabled() ? WaitTelemetry.callSite() : null;
+        private final String label = WaitForCondition.this.label;
+        private final List<Class<? extends Throwable>> ignored = List.copyOf(ignoredExceptions);
+        // Claimed by whichever ends the wait first, a poll or the caller through the future, so it is reported once
+        private final AtomicBoolean finished = new AtomicBoolean();
+        private volatile int poll;
+        private long intervalNanos;
+        private volatile Throwable lastException;
+        private volatile Future<?> nextPoll;
+
+        private AsyncPoll(Function<? super T, V> condition) {
+            this.condition = condition;
+        }
+
+        @Override
+        public void run() {
+            if (result.isDone()) {
+                return;  // Cancelled while scheduled
+            }
+            try {
+                pollOnce();
+            } catch (Throwable e) {
+                finish(WaitEvent.Outcome.FAILED, null, e, e);
+            }
+        }
+
+        private void pollOnce() {
+            long elapsedNanos = nowNanos() - startNanos;
+            long remainingNanos = Math.max(0, timeoutNanos - elapsedNanos);
+
+            long evaluationStart = System.nanoTime();
+            try {
+                V value = condition.apply(input);
+                if (isSatisfied(value)) {
+                    if (LOGGER.isDebugEnabled()) {
+                        LOGGER.debug("Condition met with value: {} after {} seconds.", value, TimeUnit.NANOSECONDS.toSeconds(elapsedNanos));
+                    }
+                    finish(WaitEvent.Outcome.MET, value, null, null);
+                    return;
+                }
+                lastException = null;
+            } catch (Exception e) {
+                lastException = propagateIfNotIgnored(ignored, e);
+                LOGGER.warn("Exception occurred while evaluating condition: {}", e.toString());
+            }
+            long evaluationNanos = System.nanoTime() - evaluationStart;
+
+            if (remainingNanos == 0) {
+                LOGGER.error("Timeout reached after {} seconds, condition not met.", TimeUnit.NANOSECONDS.toSeconds(elapsedNanos));
+                finish(WaitEvent.Outcome.TIMED_OUT, null, timeoutException("Condition not met within the timeout", lastException),
+                        lastException);
+                return;
+            }
+
+            intervalNanos = Math.max(0, strategy.nextIntervalNanos(++poll, intervalNanos, evaluationNanos));
+            long sleepNanos = Math.min(intervalNanos, remainingNanos);
+            nextPoll = POLL_SCHEDULER.schedule(() -> POLL_EXECUTOR.execute(this), sleepNanos, TimeUnit.NANOSECONDS);
+            if (result.isDone()) {
+                cancelNextPoll();  // Cancelled while the next poll was being scheduled
+            }
+        }
+
+        /**
+         * End the wait from a poll and report it, unless the caller has already ended it through the future.
+         */
+        private void finish(WaitEvent.Outcome outcome, V value, Throwable failure, Throwable cause) {
+            if (!finished.compareAndSet(false, true)) {
+                return;  // Ended by the caller, reported there
+            }
+            boolean completed = failure == null ? result.complete(value) : result.completeExceptionally(failure);
+            if (completed) {
+                report(callSite, label, poll + 1, startNanos, outcome, cause);
+            } else {
+                // The caller completed the future after this poll claimed it
+                reportCompletedByCaller(result.isCompletedExceptionally() && !result.isCancelled() ? result.exceptionNow() : null);
+            }
+        }
+
+        /**
+         * Report a wait ended through the future as cancelled, with the caller's exception if it supplied one.
+         */
+        private void reportCompletedByCaller(Throwable callerException) {
+            Throwable cause = callerException instanceof CompletionException && callerException.getCause() != null
+                    ? callerException.getCause() : callerException;
+            if (cause == null || cause instanceof CancellationException) {
+                cause = lastException;
+            }
+            report(callSite, label, poll, startNanos, WaitEvent.Outcome.CANCELLED, cause);
+        }
+
+        private void cancelNextPoll() {
+            Future<?> scheduled = nextPoll;
+            if (scheduled != null) {
+                scheduled.cancel(false);
+            }
+        }
+    }
 }
@@ -0,0 +1,34 @@
+package org.autoutils.wait;
+
+import java.time.Duration;
+
+/**
+ * Aggregated telemetry of the waits started from one call site with one label.
+ *
+ * <p>Percentiles are estimated from a histogram with power-of-two buckets, so they are accurate to within a factor
+ * of two and never exceed {@code maxTime}.</p>
+ *
+ * @param callSite       The method that started the waits, as {@code class.method:line}.
+ * @param label          The label of the waits, or null.
+ * @param count          The number of finished waits.
+ * @param metCount       The number of waits whose condition was met.
+ * @param timedOutCount  The number of waits that timed out.
+ * @param failedCount    The number of waits that failed or were cancelled.
+ * @param totalPolls     The summed number of evaluations of the condition.
+ * @param totalTime      The summed time spent waiting.
+ * @param maxTime        The longest wait.
+ * @param p50            The estimated median wait.
+ * @param p90            The estimated 90th percentile wait.
+ * @param p99            The estimated 99th percentile wait.
+ */
+public record WaitStatistics(String callSite, String label, long count, long metCount, long timedOutCount,
+                             long failedCount, long totalPolls, Duration totalTime, Duration maxTime,
+                             Duration p50, Duration p90, Duration p99) {
+
+    /**
+     * @return The average wait.
+     */
+    public Duration averageTime() {
+        return count == 0 ? Duration.ZERO : totalTime.dividedBy(count);
+    }
+}
@@ -0,0 +1,289 @@
+package org.autoutils.wait;
+
+import org.openqa.selenium.json.Json;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.InvalidPathException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+/**
+ * WaitTelemetry collects a {@link WaitEvent} for every finished {@link WaitForCondition} wait and aggregates them per
+ * call site and label into counters and a latency histogram, to find the waits that cost a run the most time.
+ *
+ * <p>Events are passed to the registered listeners on the thread that finished the wait, and logged at debug level.
+ * Recording an event only updates lock-free counters. The statistics can be read with {@link #getStatistics()} or
+ * written as JSON with {@link #writeJson(Path)}; setting the {@code autoutils.wait.telemetry.report} property to a
+ * file path writes the JSON report when the JVM exits. Telemetry is off unless the
+ * {@code autoutils.wait.telemetry.enabled} system property is {@code true} or {@link #setEnabled(boolean)} is called,
+ * as finding the call site walks the stack on every wait.</p>
+ *
+ * <p>At most 1000 call site and label pairs are tracked; once that many exist, waits of new pairs are aggregated
+ * per call site under the label {@code "(other)"}, so labels built from changing data cannot grow the statistics
+ * without bound.</p>
+ *
+ * <p>Example of usage:</p>
+ * <pre>{@code
+ * WaitTelemetry.setEnabled(true);
+ * WaitTelemetry.addListener(event -> {
+ *     if (event.outcome() == WaitEvent.Outcome.TIMED_OUT) {
+ *         LOGGER.warn("Wait at {} timed out after {} polls", event.callSite(), event.pollCount());
+ *     }
+ * });
+ * // ... run the tests ...
+ * WaitTelemetry.writeJson(Path.of("target/wait-telemetry.json"));
+ * }</pre>
+ */
+public final class WaitTelemetry {
+    private static final Logger LOGGER = LoggerFactory.getLogger(WaitTelemetry.class);
+
+    private static final StackWalker STACK_WALKER = StackWalker.getInstance(StackWalker.Option.RETAIN_CLASS_REFERENCE);
+    private static final int HISTOGRAM_BUCKETS = 40;  // Power-of-two microsecond buckets, up to about 6 days
+    private static final int MAX_TRACKED_KEYS = 1000;
+    private static final String OVERFLOW_LABEL = "(other)";
+
+    private static final Map<CallSiteKey, CallSiteStats> statistics = new ConcurrentHashMap<>();
+    private static final List<Consumer<WaitEvent>> listeners = new CopyOnWriteArrayList<>();
+    private static volatile boolean enabled = Boolean.parseBoolean(System.getProperty("autoutils.wait.telemetry.enabled"));
+
+    static {
+        String reportPath = System.getProperty("autoutils.wait.telemetry.report");
+        if (reportPath != null && !reportPath.isBlank()) {
+            try {
+                Path report = Path.of(reportPath);
+                Runtime.getRuntime().addShutdownHook(Thread.ofPlatform().name("wait-telemetry-report").unstarted(
+                        () -> writeReportQuietly(report)));
+            } catch (InvalidPathException e) {
+                LOGGER.warn("Ignoring invalid wait telemetry report path {}: {}", reportPath, e.getMessage());
+            }
+        }
+    }
+
+    private WaitTelemetry() {
+        // Private constructor to prevent instantiation
+    }
+
+    /**
+     * Enable or disable telemetry. Waits already in progress are still recorded.
+     *
+     * @param enabled false to stop recording waits.
+     */
+    public static void setEnabled(boolean enabled) {
+        WaitTelemetry.enabled = enabled;
+    }
+
+    /**
+     * @return true if waits are being recorded.
+     */
+    public static boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Register a listener called with the event of every finished wait.
+     *
+     * @param listener The listener.
+     */
+    public static void addListener(Consumer<WaitEvent> listener) {
+        listeners.add(listener);
+    }
+
+    /**
+     * @param listener The listener to remove.
+     */
+    public static void removeListener(Consumer<WaitEvent> listener) {
+        listeners.remove(listener);
+    }
+
+    /**
+     * Get the statistics of every call site, the call site that spent the most time waiting first.
+     *
+     * @return A snapshot of the statistics.
+     */
+    public static List<WaitStatistics> getStatistics() {
+        return statistics.entrySet().stream()
+                .map(entry -> entry.getValue().snapshot(entry.getKey()))
+                .sorted(Comparator.comparing(WaitStatistics::totalTime).reversed())
+                .toList();
+    }
+
+    /**
+     * Render the statistics as a JSON array, the call site that spent the most time waiting first. Times are in
+     * milliseconds.
+     *
+     * @return The JSON report.
+     */
+    public static String toJson() {
+        List<Map<String, Object>> callSites = getStatistics().stream().map(WaitTelemetry::toJsonObject).toList();
+        return new Json().toJson(callSites);
+    }
+
+    /**
+     * Write the JSON report to a file, creating its parent directories.
+     *
+     * @param path The file to write.
+     * @throws UncheckedIOException if the file cannot be written.
+     */
+    public static void writeJson(Path path) {
+        try {
+            if (path.getParent() != null) {
+                Files.createDirectories(path.getParent());
+            }
+            Files.writeString(path, toJson());
+            LOGGER.info("Wrote wait telemetry for {} call sites to {}.", statistics.size(), path);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Wait telemetry could not be written to " + path, e);
+        }
+    }
+
+    private static void writeReportQuietly(Path path) {
+        try {
+            writeJson(path);
+        } catch (RuntimeException e) {
+            LOGGER.warn("{}", e.getMessage());
+        }
+    }
+
+    /**
+     * Forget all statistics collected so far.
+     */
+    public static void reset() {
+        statistics.clear();
+    }
+
+    /**
+     * Find the method that started a wait: the first caller outside {@link WaitForCondition}, its subclasses and
+     * nested classes.
+     *
+     * @return The call site as {@code class.method:line}.
+     */
+    static String callSite() {
+        return STACK_WALKER.walk(frames -> frames
+                .filter(frame -> !isWaitInternal(frame.getDeclaringClass()))
+                .findFirst()
+                .map(frame -> frame.getClassName() + "." + frame.getMethodName() + ":" + frame.getLineNumber())
+                .orElse("unknown"));
+    }
+
+    /**
+     * Record a finished wait.
+     *
+     * @param event The wait event.
+     */
+    static void record(WaitEvent event) {
+        CallSiteKey key = new CallSiteKey(event.callSite(), event.label());
+        if (statistics.size() >= MAX_TRACKED_KEYS && !statistics.containsKey(key)) {
+            key = new CallSiteKey(event.callSite(), OVERFLOW_LABEL);
+        }
+        statistics.computeIfAbsent(key, newKey -> new CallSiteStats()).add(event);
+        if (LOGGER.isDebugEnabled()) {
+            LOGGER.debug("{}", event);
+        }
+        for (Consumer<WaitEvent> listener : listeners) {
+            try {
+                listener.accept(event);
+            } catch (RuntimeException e) {
+                LOGGER.warn("Wait telemetry listener failed: {}", e.toString());
+            }
+        }
+    }
+
+    private static boolean isWaitInternal(Class<?> type) {
+        return type == WaitTelemetry.class || WaitForCondition.class.isAssignableFrom(type)
+                || type.getNestHost() == WaitForCondition.class;
+    }
+
+    private static Map<String, Object> toJsonObject(WaitStatistics stats) {
+        Map<String, Object> json = new LinkedHashMap<>();
+        json.put("callSite", stats.callSite());
+        json.put("label", stats.label());
+        json.put("count", stats.count());
+        json.put("met", stats.metCount());
+        json.put("timedOut", stats.timedOutCount());
+        json.put("failed", stats.failedCount());
+        json.put("totalPolls", stats.totalPolls());
+        json.put("totalMillis", stats.totalTime().toMillis());
+        json.put("averageMillis", stats.averageTime().toMillis());
+        json.put("maxMillis", stats.maxTime().toMillis());
+        json.put("p50Millis", stats.p50().toMillis());
+        json.put("p90Millis", stats.p90().toMillis());
+        json.put("p99Millis", stats.p99().toMillis());
+        return json;
+    }
+
+    private record CallSiteKey(String callSite, String label) {
+    }
+
+    /**
+     * Counters and latency histogram of one call site. Bucket 0 holds waits under 1 microsecond, bucket b waits from
+     * 2^(b-1) up to 2^b microseconds.
+     */
+    private static final class CallSiteStats {
+        private final LongAdder count = new LongAdder();
+        private final LongAdder metCount = new LongAdder();
+        private final LongAdder timedOutCount = new LongAdder();
+        private final LongAdder totalPolls = new LongAdder();
+        private final LongAdder totalNanos = new LongAdder();
+        private final LongAccumulator maxNanos = new LongAccumulator(Math::max, 0);
+        private final AtomicLongArray histogram = new AtomicLongArray(HISTOGRAM_BUCKETS);
+
+        void add(WaitEvent event) {
+            long nanos = event.elapsed().toNanos();
+            count.increment();
+            if (event.outcome() == WaitEvent.Outcome.MET) {
+                metCount.increment();
+            } else if (event.outcome() == WaitEvent.Outcome.TIMED_OUT) {
+                timedOutCount.increment();
+            }
+            totalPolls.add(event.pollCount());
+            totalNanos.add(nanos);
+            maxNanos.accumulate(nanos);
+            long micros = TimeUnit.NANOSECONDS.toMicros(nanos);
+            histogram.incrementAndGet(Math.min(HISTOGRAM_BUCKETS - 1, 64 - Long.numberOfLeadingZeros(micros)));
+        }
+
+        WaitStatistics snapshot(CallSiteKey key) {
+            long total = count.sum();
+            long met = metCount.sum();
+            long timedOut = timedOutCount.sum();
+            long max = maxNanos.get();
+            return new WaitStatistics(key.callSite(), key.label(), total, met, timedOut, Math.max(0, total - met - timedOut),
+                    totalPolls.sum(), Duration.ofNanos(totalNanos.sum()), Duration.ofNanos(max),
+                    percentile(0.50, max), percentile(0.90, max), percentile(0.99, max));
+        }
+
+        private Duration percentile(double quantile, long maxNanos) {
+            long[] buckets = new long[HISTOGRAM_BUCKETS];
+            long total = 0;
+            for (int i = 0; i < HISTOGRAM_BUCKETS; i++) {
+                buckets[i] = histogram.get(i);
+                total += buckets[i];
+            }
+            long rank = (long) Math.ceil(quantile * total);
+            long cumulative = 0;
+            for (int i = 0; i < HISTOGRAM_BUCKETS; i++) {
+                cumulative += buckets[i];
+                if (cumulative >= rank && cumulative > 0) {
+                    long upperNanos = TimeUnit.MICROSECONDS.toNanos(1L << i);  // Upper bound of the bucket
+                    return Duration.ofNanos(Math.min(upperNanos, maxNanos));
+                }
+            }
+            return Duration.ZERO;
+        }
+    }
+}